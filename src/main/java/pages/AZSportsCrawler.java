@@ -0,0 +1,233 @@
+package pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.Platform;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Crawler mode for the A–Z panel: enumerate every sport once, then validate the sport pages
+ * in waves of N tabs inside ONE browser session.
+ *
+ * How the tabs load concurrently: I modifier-click (Ctrl/Cmd) the A–Z links, like a user opening links
+ * in background tabs (window.open only as a fallback). The browser loads all tabs of a wave in parallel
+ * while I poll them one by one with the quick (no-wait) check.
+ *
+ * Load time per sport = click -> first poll that saw the sport's header/active tab. Polling is sequential,
+ * so it's an upper bound (off by at most one polling round). The URL alone proves nothing here: the tab
+ * was opened from that sport's link, so an error or empty page would "contain the slug" too.
+ *
+ * Tabs that show up after I stopped waiting for them (late modifier-clicks) are strays: I close every
+ * handle that isn't home or an assigned tab before opening the next one, so they can't be mistaken
+ * for another sport's tab.
+ *
+ * Knobs:
+ * -Dcrawler.tabs=4          tabs per wave
+ * -Dcrawler.timeoutSec=20   per-wave timeout
+ */
+public class AZSportsCrawler extends BasePage {
+
+    /** Result for one sport. */
+    public record SportCheck(String name, String slug, long loadMillis, boolean passed) { }
+
+    private static final String BASE_URL = "https://sports.bwin.com/en/sports/";
+
+    // The A–Z panel: its own component if it has one, else the nearest ancestor of the "A-Z Sports" header
+    // that holds sport links. Scoped so header/nav links (e.g. "Live" -> /en/sports/live) aren't enumerated.
+    private static final String AZ_PANEL =
+            "(//*[starts-with(local-name(),'ms-') and contains(local-name(),'az-sports')]" +
+            " | //*[normalize-space(.)='A-Z Sports'][not(*[normalize-space(.)='A-Z Sports'])]" +
+            "/ancestor::*[.//a[contains(@href,'/en/sports/')]][1])";
+
+    // Sport links inside the panel; I keep only the ones whose text slugifies into the href.
+    private final By sportLinks = By.xpath(AZ_PANEL + "//a[contains(@href,'/en/sports/')]");
+
+    private final int tabs;
+    private final Duration waveTimeout;
+
+    public AZSportsCrawler(WebDriver driver) {
+        super(driver);
+        this.tabs = Math.max(1, Integer.getInteger("crawler.tabs", 4));
+        this.waveTimeout = Duration.ofSeconds(Integer.getInteger("crawler.timeoutSec", 20));
+    }
+
+    /**
+     * Open A–Z once and build the name -> slug map (in panel order, no duplicates).
+     */
+    public Map<String, String> enumerateSports() {
+        Pages.get(driver, AZSportsPage.class).openAZIfNeeded();
+        Map<String, String> sports = new LinkedHashMap<>();
+        Set<String> seenSlugs = new HashSet<>();
+        for (WebElement a : driver.findElements(sportLinks)) {
+            try {
+                if (!a.isDisplayed()) continue;
+                String name = a.getText().trim();
+                String href = (a.getAttribute("href") + "").toLowerCase();
+                String slug = AZSportsPage.slugify(name);
+                if (name.isEmpty() || slug.isEmpty() || !href.contains("/en/sports/" + slug)) continue;
+                if (seenSlugs.add(slug)) {
+                    sports.put(name, slug);
+                }
+            } catch (StaleElementReferenceException ignored) {
+                // panel re-rendered under me; the sport will be picked up by the next enumeration
+            }
+        }
+        return sports;
+    }
+
+    /**
+     * Validate every sport page, {@code tabs} at a time, in the current browser session.
+     * The original tab is kept (A–Z stays open there) and is the one I return to.
+     */
+    public List<SportCheck> crawl(Map<String, String> sports) {
+        String home = driver.getWindowHandle();
+        List<SportCheck> results = new ArrayList<>();
+        List<Map.Entry<String, String>> all = new ArrayList<>(sports.entrySet());
+
+        for (int from = 0; from < all.size(); from += tabs) {
+            List<Map.Entry<String, String>> wave = all.subList(from, Math.min(all.size(), from + tabs));
+            results.addAll(crawlWave(home, wave));
+        }
+        return results;
+    }
+
+    private List<SportCheck> crawlWave(String home, List<Map.Entry<String, String>> wave) {
+        driver.switchTo().window(home);
+        Pages.get(driver, AZSportsPage.class).openAZIfNeeded();
+
+        // 1) Fire all navigations of the wave; remember which tab belongs to which sport.
+        Map<String, Map.Entry<String, String>> tabToSport = new LinkedHashMap<>();
+        Map<String, Long> started = new LinkedHashMap<>();
+        for (Map.Entry<String, String> sport : wave) {
+            closeStrays(home, tabToSport.keySet());
+            long t0 = System.currentTimeMillis();
+            String handle = openInBackgroundTab(home, sport.getValue(), tabToSport.keySet());
+            if (handle == null) continue; // reported as a failure below
+            tabToSport.put(handle, sport);
+            started.put(handle, t0);
+        }
+
+        // 2) Poll the tabs round-robin until each is loaded or the wave times out.
+        Map<String, SportCheck> done = new LinkedHashMap<>();
+        long end = System.currentTimeMillis() + waveTimeout.toMillis();
+        AZSportsPage page = Pages.get(driver, AZSportsPage.class);
+        while (done.size() < tabToSport.size() && System.currentTimeMillis() < end) {
+            for (Map.Entry<String, Map.Entry<String, String>> e : tabToSport.entrySet()) {
+                if (done.containsKey(e.getKey())) continue;
+                String name = e.getValue().getKey();
+                try {
+                    driver.switchTo().window(e.getKey());
+                    if (page.isSportPageShownQuick(name)) {
+                        long ms = System.currentTimeMillis() - started.get(e.getKey());
+                        done.put(e.getKey(), new SportCheck(name, e.getValue().getValue(), ms, true));
+                    }
+                } catch (WebDriverException ignored) {
+                    // tab still navigating / node re-rendered – try again next round
+                }
+            }
+            sleepQuietly(250);
+        }
+
+        // 3) Collect results in wave order (timeouts and tabs that never opened are failures), close the tabs.
+        Map<String, SportCheck> bySlug = new LinkedHashMap<>();
+        for (Map.Entry<String, SportCheck> e : done.entrySet()) {
+            bySlug.put(e.getValue().slug(), e.getValue());
+        }
+        List<SportCheck> out = new ArrayList<>();
+        for (Map.Entry<String, String> sport : wave) {
+            out.add(bySlug.getOrDefault(sport.getValue(),
+                    new SportCheck(sport.getKey(), sport.getValue(), waveTimeout.toMillis(), false)));
+        }
+        closeStrays(home, Set.of());
+        return out;
+    }
+
+    /** Close every tab except home and the ones I'm tracking (late background tabs, finished wave tabs). */
+    private void closeStrays(String home, Set<String> keep) {
+        for (String handle : driver.getWindowHandles()) {
+            if (handle.equals(home) || keep.contains(handle)) continue;
+            try {
+                driver.switchTo().window(handle);
+                driver.close();
+            } catch (WebDriverException ignored) { }
+        }
+        driver.switchTo().window(home);
+    }
+
+    /**
+     * Modifier-click the sport link so the browser opens it in a background tab.
+     * If no new tab shows up (link intercepted/not found), I fall back to window.open from the home tab:
+     * it doesn't wait for the load either (driver.get would, and serialize the wave).
+     * More than one new tab means a late one from earlier is in the way; I can't tell them apart by
+     * order, so I keep the one already on this sport's URL and close the rest.
+     * Returns null if no tab could be opened.
+     */
+    private String openInBackgroundTab(String home, String slug, Set<String> assigned) {
+        Keys modifier = Platform.getCurrent().is(Platform.MAC) ? Keys.COMMAND : Keys.CONTROL;
+        try {
+            WebElement link = driver.findElement(By.xpath(AZ_PANEL + "//a[contains(@href,'/en/sports/" + slug + "')]"));
+            new Actions(driver).keyDown(modifier).click(link).keyUp(modifier).perform();
+            String handle = awaitNewTab(home, slug, assigned, 2000);
+            if (handle != null) return handle;
+        } catch (WebDriverException ignored) {
+            // fall through to window.open
+        }
+
+        try {
+            closeStrays(home, assigned);
+            ((JavascriptExecutor) driver).executeScript("window.open(arguments[0], '_blank');", BASE_URL + slug);
+            return awaitNewTab(home, slug, assigned, 2000);
+        } catch (WebDriverException e) {
+            driver.switchTo().window(home);
+            return null;
+        }
+    }
+
+    /** The one new (unassigned) tab that appeared within {@code waitMs}, or null. Always ends on home. */
+    private String awaitNewTab(String home, String slug, Set<String> assigned, long waitMs) {
+        long end = System.currentTimeMillis() + waitMs;
+        while (System.currentTimeMillis() < end) {
+            Set<String> fresh = new HashSet<>(driver.getWindowHandles());
+            fresh.remove(home);
+            fresh.removeAll(assigned);
+            if (fresh.size() == 1) return fresh.iterator().next();
+            if (fresh.size() > 1) return pickBySlug(home, slug, fresh);
+            sleepQuietly(50);
+        }
+        return null;
+    }
+
+    private String pickBySlug(String home, String slug, Set<String> candidates) {
+        String match = null;
+        for (String handle : candidates) {
+            try {
+                driver.switchTo().window(handle);
+                boolean mine = match == null && driver.getCurrentUrl().toLowerCase().contains("/en/sports/" + slug);
+                if (mine) {
+                    match = handle;
+                } else {
+                    driver.close();
+                }
+            } catch (WebDriverException ignored) { }
+        }
+        driver.switchTo().window(home);
+        return match;
+    }
+
+    private static void sleepQuietly(long ms) {
+        try { Thread.sleep(ms); } catch (InterruptedException ignored) { }
+    }
+}
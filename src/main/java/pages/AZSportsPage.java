@@ -3,6 +3,7 @@ package pages;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.InteractionProbe;
 
 import java.text.Normalizer;
 import java.time.Duration;
@@ -44,7 +45,8 @@ public class AZSportsPage extends BasePage {
         } catch (TimeoutException e) {
             WebElement tab = new WebDriverWait(driver, Duration.ofSeconds(6))
                     .until(ExpectedConditions.elementToBeClickable(azTab));
-            tab.click();
+            // Actions click so the interaction probe can time it (same as the other UI clicks)
+            InteractionProbe.click(driver, tab, "az-tab", Duration.ZERO);
 
             // Wait until the A–Z content is actually loaded.
             new WebDriverWait(driver, Duration.ofSeconds(8))
@@ -58,8 +60,9 @@ public class AZSportsPage extends BasePage {
      * - lowercase
      * - strip diacritics
      * - replace non-alphanumerics with a single dash
+     * Package-private so the A–Z crawler builds the same slugs.
      */
-    private String slugify(String name) {
+    static String slugify(String name) {
         String s = name == null ? "" : name.toLowerCase().trim();
         s = Normalizer.normalize(s, Normalizer.Form.NFD)
                 .replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
@@ -107,6 +110,14 @@ public class AZSportsPage extends BasePage {
         throw new NoSuchElementException("Sport not found in A-Z: " + sportName);
     }
 
+    /** Tab/header for the sport that looks active/selected (class "active/selected", aria-selected or a heading). */
+    private By activeTabFor(String sportName) {
+        return By.xpath(
+                "//*[normalize-space(.)='" + sportName + "']" +
+                        "[contains(@class,'active') or contains(@class,'selected') or @aria-selected='true' or self::h1 or self::h2]"
+        );
+    }
+
     /**
      * Check that the respective sport page is loaded.
      * I don't rely on a single signal; I accept:
@@ -121,10 +132,7 @@ public class AZSportsPage extends BasePage {
                 .contains("/en/sports/" + slug);
 
         // Active tab/header patterns (class "active/selected" or aria-selected).
-        By activeTab = By.xpath(
-                "//*[normalize-space(.)='" + sportName + "']" +
-                        "[contains(@class,'active') or contains(@class,'selected') or @aria-selected='true' or self::h1 or self::h2]"
-        );
+        By activeTab = activeTabFor(sportName);
 
         boolean tabVisible = false;
         try {
@@ -138,4 +146,23 @@ public class AZSportsPage extends BasePage {
         // I consider the page loaded if either URL or visual indicator confirms it.
         return urlOk || tabVisible;
     }
+
+    /**
+     * Stricter, no-wait variant for the crawler: the sport's header/active tab must be shown,
+     * and the URL must still be the sport's (no redirect to home/an error route).
+     * URL alone isn't enough there: a tab opened from the sport's link has that URL by construction,
+     * even when the page behind it is an error or empty. No wait, because the crawler polls many tabs.
+     */
+    public boolean isSportPageShownQuick(String sportName) {
+        String slug = slugify(sportName);
+        if (!driver.getCurrentUrl().toLowerCase().contains("/en/sports/" + slug)) {
+            return false;
+        }
+        for (WebElement el : driver.findElements(activeTabFor(sportName))) {
+            try {
+                if (el.isDisplayed()) return true;
+            } catch (StaleElementReferenceException ignored) { }
+        }
+        return false;
+    }
 }
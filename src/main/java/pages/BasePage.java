@@ -1,22 +1,22 @@
 package pages;
 
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.support.PageFactory;
 
 /**
  * Minimal base for all page objects.
  * I keep only the shared WebDriver reference and a couple of simple helpers.
- * PageFactory is initialized so I can use @FindBy if needed.
+ * PageFactory-style @FindBy binding is available if needed (metadata cached per class, see PageBindings).
+ * Prefer {@link Pages#get} over "new" in polling code: one instance per page per session.
  */
 public class BasePage {
     protected WebDriver driver;
 
     /**
-     * Store the driver and initialize PageFactory bindings.
+     * Store the driver and initialize @FindBy bindings.
      */
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        PageFactory.initElements(driver, this);
+        PageBindings.bind(driver, this);
     }
 
     /** Expose current URL – handy in assertions/logging. */
@@ -1,6 +1,7 @@
 package pages;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
@@ -9,9 +10,16 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
- * Betslip (right rail) helper. No JS – only short, robust waits.
+ * Betslip (right rail) helper. Checks use short, robust waits; the only JS is in the reads that must be
+ * cheap or consistent ({@link #selectionCounter()}, {@link #snapshot()}).
  * Validates by stable EN texts ("Bet Slip", "Selections (N)") where available.
  */
 public class BetslipPanel extends BasePage {
@@ -23,17 +31,17 @@ public class BetslipPanel extends BasePage {
     );
 
     // Row like "Selections (1)"
-    private final By selectionsCounter = By.xpath(
-            "//*[contains(normalize-space(.),'Selections (') and contains(normalize-space(.),')')]"
-    );
+    private static final String SELECTIONS_COUNTER =
+            "//*[contains(normalize-space(.),'Selections (') and contains(normalize-space(.),')')]";
+    private final By selectionsCounter = By.xpath(SELECTIONS_COUNTER);
 
     // Very broad fallback: any selection row under the aside (right rail)
-    private final By anySelectionRow = By.xpath(
+    private static final String ANY_SELECTION_ROW =
             "//aside//*[contains(@class,'selection') or contains(@class,'bet') or contains(@class,'row')]" +
                     "[.//*[self::span or self::div or self::b or self::strong]" +
                     "[contains(normalize-space(.),'.') or string-length(normalize-space(.))<=5] " + // often the odds
-                    " or .//*[contains(@class,'remove') or contains(@class,'close') or contains(@aria-label,'Remove')]]"
-    );
+                    " or .//*[contains(@class,'remove') or contains(@class,'close') or contains(@aria-label,'Remove')]]";
+    private final By anySelectionRow = By.xpath(ANY_SELECTION_ROW);
 
     //generic Bet Slip toggle/icon – detected by attributes, not visible text.
     private final By betslipToggle = By.xpath(
@@ -45,6 +53,31 @@ public class BetslipPanel extends BasePage {
                     "]"
     );
 
+    // Stake input and "Returns"/"Possible winnings" label in the right rail
+    private static final String STAKE_INPUT = "//aside//input[not(@type='checkbox') and not(@type='radio')]";
+    private static final String RETURNS_LABEL =
+            "//aside//*[contains(normalize-space(.),'Returns') or contains(normalize-space(.),'Possible winnings')]";
+
+    // Shared by both reads: all matches of an XPath, and the counter from its deepest (last) match.
+    private static final String JS_HELPERS =
+            "function all(xp) { var r = document.evaluate(xp, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "  var out = []; for (var i = 0; i < r.snapshotLength; i++) out.push(r.snapshotItem(i)); return out; }" +
+            "function counter(xp) { var els = all(xp); if (!els.length) return -1;" +
+            "  var m = /Selections \\((\\d+)\\)/.exec(els[els.length - 1].innerText || ''); return m ? parseInt(m[1], 10) : -1; }";
+
+    // One round trip and no per-element calls: cheap enough to poll.
+    private static final String COUNTER_JS = JS_HELPERS + "return counter(arguments[0]);";
+
+    // Everything in one script = one task in the page, so the parts can't come from different renders.
+    private static final String SNAPSHOT_JS = JS_HELPERS +
+            "var stake = null; all(arguments[2]).some(function (e) {" +
+            "  if (e.getClientRects().length && e.value && e.value.trim()) { stake = e.value; return true; } return false; });" +
+            "var labels = all(arguments[3]);" +
+            "return {counter: counter(arguments[0]), rows: all(arguments[1]).map(function (e) { return e.innerText; })," +
+            "        stake: stake, returns: labels.map(function (e) { return e.innerText; })};";
+
+    private static final Pattern ODDS_ONLY = Pattern.compile("^\\d+(?:[.,]\\d+)?$");
+
     public BetslipPanel(WebDriver driver) {
         super(driver);
     }
@@ -93,4 +126,74 @@ public class BetslipPanel extends BasePage {
             return false;
         }
     }
+
+    /**
+     * Current "Selections (N)" value in one cheap script call, -1 if the counter isn't shown.
+     * Meant for polling (e.g. click -> update latency); use {@link #snapshot()} for the full state.
+     */
+    public int selectionCounter() {
+        Object n = ((JavascriptExecutor) driver).executeScript(COUNTER_JS, SELECTIONS_COUNTER);
+        return n instanceof Number num ? num.intValue() : -1;
+    }
+
+    /**
+     * Read the whole Bet Slip in one script call, without waiting, so counter, rows, stake and returns
+     * are one consistent state (separate WebDriver calls could straddle an update).
+     * Rows are detected heuristically: an element whose text has exactly one odds-only line
+     * (a container of several rows has more, a fragment of a row has no event line).
+     */
+    @SuppressWarnings("unchecked")
+    public BetslipState snapshot() {
+        Object raw = ((JavascriptExecutor) driver).executeScript(SNAPSHOT_JS,
+                SELECTIONS_COUNTER, ANY_SELECTION_ROW, STAKE_INPUT, RETURNS_LABEL);
+        Map<String, Object> data = raw instanceof Map ? (Map<String, Object>) raw : Map.of();
+
+        Set<BetslipState.Selection> rows = new LinkedHashSet<>();
+        for (Object text : (List<Object>) data.getOrDefault("rows", List.of())) {
+            BetslipState.Selection sel = parseSelection(text == null ? null : text.toString());
+            if (sel != null) rows.add(sel);
+        }
+
+        Object stakeValue = data.get("stake");
+        String stake = stakeValue == null ? null : LiveBettingPage.extractOddsNumber(stakeValue.toString());
+
+        String returns = null;
+        List<Object> labels = (List<Object>) data.getOrDefault("returns", List.of());
+        // deepest match comes last in document order; it holds just "Returns 12.50"
+        for (int i = labels.size() - 1; i >= 0 && returns == null; i--) {
+            returns = LiveBettingPage.extractOddsNumber(String.valueOf(labels.get(i)));
+        }
+
+        int counter = data.get("counter") instanceof Number n ? n.intValue() : -1;
+        List<BetslipState.Selection> selections = new ArrayList<>(rows);
+        return new BetslipState(counter >= 0 ? counter : selections.size(), selections, stake, returns);
+    }
+
+    /** Lines of a row: outcome, market, "Home - Away", odds (order varies by layout). */
+    private static BetslipState.Selection parseSelection(String text) {
+        if (text == null) return null;
+        List<String> lines = new ArrayList<>();
+        for (String line : text.split("\\n")) {
+            if (!line.isBlank()) lines.add(line.trim());
+        }
+
+        String odds = null;
+        String event = null;
+        List<String> rest = new ArrayList<>();
+        for (String line : lines) {
+            if (ODDS_ONLY.matcher(line).matches()) {
+                if (odds != null) return null; // more than one row in here
+                odds = line.replace(',', '.');
+            } else if (event == null && (line.contains(" - ") || line.contains(" vs ") || line.contains(" v "))) {
+                event = line;
+            } else {
+                rest.add(line);
+            }
+        }
+        if (odds == null || event == null) return null;
+
+        String outcome = rest.isEmpty() ? null : rest.get(0);
+        String market = rest.size() > 1 ? rest.get(1) : null;
+        return new BetslipState.Selection(event, market, outcome, odds);
+    }
 }
@@ -0,0 +1,55 @@
+package pages;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable snapshot of the Bet Slip, read in one pass by {@link BetslipPanel#snapshot()}.
+ * Fields the UI doesn't show (e.g. stake before it's entered) are null.
+ */
+public final class BetslipState {
+
+    /** One selection row: event ("Team A - Team B"), market, picked outcome and its odds. */
+    public record Selection(String event, String market, String outcome, String odds) { }
+
+    private final int selectionCount;
+    private final List<Selection> selections;
+    private final String stake;
+    private final String returns;
+
+    BetslipState(int selectionCount, List<Selection> selections, String stake, String returns) {
+        this.selectionCount = selectionCount;
+        this.selections = Collections.unmodifiableList(selections);
+        this.stake = stake;
+        this.returns = returns;
+    }
+
+    /** From the "Selections (N)" counter if present, otherwise the number of rows I could read. */
+    public int selectionCount() {
+        return selectionCount;
+    }
+
+    public List<Selection> selections() {
+        return selections;
+    }
+
+    public String stake() {
+        return stake;
+    }
+
+    public String returns() {
+        return returns;
+    }
+
+    public boolean isEmpty() {
+        return selectionCount == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "BetslipState{count=" + selectionCount
+                + ", selections=" + selections
+                + ", stake=" + stake
+                + ", returns=" + returns + "}";
+    }
+}
@@ -4,12 +4,14 @@ import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.InteractionProbe;
 
 import java.time.Duration;
 import java.util.List;
 
 /**
  * Page Object for the Live Betting page (no JS; waits + Actions).
+ * Clicks go through InteractionProbe, which only injects its observers when -Dprobe.interactions=true.
  */
 public class LiveBettingPage extends BasePage {
 
@@ -20,6 +22,9 @@ public class LiveBettingPage extends BasePage {
     // Broad selector for outcome buttons
     private final By outcomeButtons = By.cssSelector("ms-event-pick");
 
+    // One row per event in the live grid (outcomes of the same event are nested inside)
+    private final By eventRows = By.cssSelector("ms-event");
+
     public LiveBettingPage(WebDriver driver) { super(driver); }
 
     /** Dismiss cookie banner safely if present. */
@@ -31,7 +36,7 @@ public class LiveBettingPage extends BasePage {
             // 2) clickable button
             WebElement btn = wait.until(ExpectedConditions.elementToBeClickable(cookieAcceptButton));
             // 3) Actions click (auto scroll)
-            new Actions(driver).moveToElement(btn).pause(Duration.ofMillis(120)).click().perform();
+            InteractionProbe.click(driver, btn, "cookie-accept", Duration.ofMillis(120));
             // 4) ensure it vanished
             wait.until(ExpectedConditions.invisibilityOfElementLocated(cookieBanner));
         } catch (TimeoutException ignore) {
@@ -47,7 +52,7 @@ public class LiveBettingPage extends BasePage {
             // fallback: re-fetch and click
             try {
                 WebElement btn = wait.until(ExpectedConditions.elementToBeClickable(cookieAcceptButton));
-                new Actions(driver).moveToElement(btn).click().perform();
+                InteractionProbe.click(driver, btn, "cookie-accept", Duration.ZERO);
                 wait.until(ExpectedConditions.invisibilityOfElementLocated(cookieBanner));
             } catch (Exception ignored) {}
         }
@@ -69,7 +74,19 @@ public class LiveBettingPage extends BasePage {
      * Steps: cookie -> find -> wait clickable -> Actions.click(). Retries on stale/intercepted.
      */
     public void selectFirstOutcome() {
-        acceptCookiesIfPresent();
+        selectFirstOutcome(true);
+    }
+
+    /**
+     * Same, but consent only if asked: flows that already have a consent step pass false,
+     * otherwise every call waits the full 10 s for a banner that's already gone.
+     * Nothing after the click throws: the pick toggles, so a caller retrying on an error
+     * from the settle wait would click it again and deselect it.
+     */
+    public void selectFirstOutcome(boolean consent) {
+        if (consent) {
+            acceptCookiesIfPresent();
+        }
         WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
 
         for (int attempt = 0; attempt < 3; attempt++) {
@@ -77,25 +94,72 @@ public class LiveBettingPage extends BasePage {
                 WebElement pick = findFirstVisibleOutcome(15);
                 wait.until(ExpectedConditions.elementToBeClickable(pick));
 
-                new Actions(driver).moveToElement(pick).pause(Duration.ofMillis(150)).click().perform();
+                InteractionProbe.click(driver, pick, "outcome", Duration.ofMillis(150));
 
-                // settle: either DOM re-renders or stays same
+                // settle: either DOM re-renders or stays same (best effort, the click already happened)
                 try {
                     wait.until(ExpectedConditions.or(
                             ExpectedConditions.stalenessOf(pick),
                             ExpectedConditions.visibilityOf(pick)
                     ));
-                } catch (StaleElementReferenceException ignored) {}
+                } catch (WebDriverException ignored) {}
                 return;
             } catch (StaleElementReferenceException | ElementClickInterceptedException e) {
                 // retry with fresh reference
             }
         }
-        throw new RuntimeException("Failed to click an outcome after retries.");
+        // WebDriverException (not a bare RuntimeException) so flows can treat it as transient.
+        throw new WebDriverException("Failed to click an outcome after retries.");
+    }
+
+    /**
+     * Click a visible outcome of the N-th event in the grid (0-based), so consecutive calls
+     * build an accumulator instead of replacing a pick of the same event.
+     * Returns the System.nanoTime() taken right after the click is performed – callers measure the
+     * betslip update from there. Deliberately not routed through {@link InteractionProbe}: with
+     * -Dprobe.interactions=true its click blocks for up to -Dprobe.entryWaitMs after perform(),
+     * which would hide the very latency the caller is measuring.
+     * Falls back to the (N*3)-th visible outcome if event rows can't be told apart.
+     */
+    public long selectOutcomeOfEvent(int eventIndex) {
+        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(outcomeButtons));
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            try {
+                WebElement pick = findVisibleOutcomeOfEvent(eventIndex);
+                wait.until(ExpectedConditions.elementToBeClickable(pick));
+                new Actions(driver).moveToElement(pick).pause(Duration.ofMillis(150)).click().perform();
+                return System.nanoTime();
+            } catch (StaleElementReferenceException | ElementClickInterceptedException e) {
+                // retry with fresh reference
+            }
+        }
+        throw new WebDriverException("Failed to click an outcome of event #" + eventIndex + " after retries.");
     }
 
-    /** Extract first decimal from text (e.g. "2.35"/"2,35"). Returns null if not found. */
-    private String extractOddsNumber(String text) {
+    private WebElement findVisibleOutcomeOfEvent(int eventIndex) {
+        List<WebElement> events = driver.findElements(eventRows);
+        if (eventIndex < events.size()) {
+            for (WebElement el : events.get(eventIndex).findElements(outcomeButtons)) {
+                try { if (el.isDisplayed()) return el; } catch (StaleElementReferenceException ignored) {}
+            }
+        }
+        // fallback: assume ~3 outcomes (1/X/2) per event row
+        int seen = 0;
+        for (WebElement el : driver.findElements(outcomeButtons)) {
+            try {
+                if (el.isDisplayed() && seen++ == eventIndex * 3) return el;
+            } catch (StaleElementReferenceException ignored) {}
+        }
+        throw new NoSuchElementException("No visible outcome for event #" + eventIndex);
+    }
+
+    /**
+     * Extract first decimal from text (e.g. "2.35"/"2,35"). Returns null if not found.
+     * Package-private: BetslipPanel reads selection odds the same way.
+     */
+    static String extractOddsNumber(String text) {
         if (text == null) return null;
         String t = text.replace('\n', ' ').trim();
         StringBuilder num = new StringBuilder();
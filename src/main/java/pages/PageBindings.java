@@ -0,0 +1,59 @@
+package pages;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocatorFactory;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.FieldDecorator;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PageFactory binding with the reflective part cached per class.
+ * PageFactory.initElements walks every field of the class hierarchy on every construction;
+ * I scan once per page class for @FindBy/@FindBys/@FindAll fields and only decorate those.
+ * Pages that only use By locators (all of mine today) bind for free.
+ */
+final class PageBindings {
+
+    private static final ClassValue<Field[]> ANNOTATED_FIELDS = new ClassValue<>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field f : c.getDeclaredFields()) {
+                    if (f.isAnnotationPresent(FindBy.class) || f.isAnnotationPresent(FindBys.class)
+                            || f.isAnnotationPresent(FindAll.class)) {
+                        f.setAccessible(true);
+                        fields.add(f);
+                    }
+                }
+            }
+            return fields.toArray(new Field[0]);
+        }
+    };
+
+    private PageBindings() { }
+
+    /** Same effect as PageFactory.initElements(driver, page) for annotated fields. */
+    static void bind(WebDriver driver, Object page) {
+        Field[] fields = ANNOTATED_FIELDS.get(page.getClass());
+        if (fields.length == 0) return;
+
+        FieldDecorator decorator = new DefaultFieldDecorator(new DefaultElementLocatorFactory(driver));
+        ClassLoader loader = page.getClass().getClassLoader();
+        for (Field f : fields) {
+            Object proxy = decorator.decorate(loader, f);
+            if (proxy == null) continue;
+            try {
+                f.set(page, proxy);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Can't bind " + f, e);
+            }
+        }
+    }
+}
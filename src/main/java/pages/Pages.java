@@ -0,0 +1,73 @@
+package pages;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-driver page-object registry.
+ * My page objects only hold the driver and locators, so one instance per page per session is enough.
+ * Polling code (e.g. a wait lambda) can call {@link #get} on every tick without re-running
+ * construction + PageFactory binding each time.
+ *
+ * Entries are keyed strongly by the driver (every page object holds its driver anyway, so weak keys
+ * would never be collected): {@link #release(WebDriver)} is REQUIRED before quitting a session
+ * (BaseTest does it in tearDown). As a safety net for callers that forget, entries of sessions that
+ * were already quit are dropped whenever a new session registers.
+ */
+public final class Pages {
+
+    private static final Map<WebDriver, Map<Class<?>, BasePage>> BY_DRIVER = new ConcurrentHashMap<>();
+
+    /** The (WebDriver) constructor per page class, looked up once. */
+    private static final ClassValue<Constructor<?>> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Constructor<?> computeValue(Class<?> type) {
+            try {
+                return type.getConstructor(WebDriver.class);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException(type.getName() + " has no public (WebDriver) constructor", e);
+            }
+        }
+    };
+
+    private Pages() { }
+
+    /** The page object of this type for this driver, created on first use. */
+    public static <T extends BasePage> T get(WebDriver driver, Class<T> type) {
+        Map<Class<?>, BasePage> pages = BY_DRIVER.get(driver);
+        if (pages == null) {
+            dropQuitSessions();
+            pages = BY_DRIVER.computeIfAbsent(driver, d -> new ConcurrentHashMap<>());
+        }
+        return type.cast(pages.computeIfAbsent(type, t -> create(driver, t)));
+    }
+
+    /** Forget all page objects of a session. Required before quitting the driver, or the session leaks. */
+    public static void release(WebDriver driver) {
+        if (driver != null) {
+            BY_DRIVER.remove(driver);
+        }
+    }
+
+    /** A quit RemoteWebDriver has no session id any more; its entry can only be a leak. */
+    private static void dropQuitSessions() {
+        BY_DRIVER.keySet().removeIf(d -> d instanceof RemoteWebDriver r && r.getSessionId() == null);
+    }
+
+    private static BasePage create(WebDriver driver, Class<?> type) {
+        try {
+            return (BasePage) CONSTRUCTORS.get(type).newInstance(driver);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("Can't create " + type.getSimpleName(), cause);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Can't create " + type.getSimpleName(), e);
+        }
+    }
+}
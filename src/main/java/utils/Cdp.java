@@ -0,0 +1,46 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Thin wrapper over raw Chrome DevTools Protocol commands.
+ * I use the generic executeCdpCommand (no versioned devtools classes), so it keeps working
+ * when Chrome updates ahead of Selenium's bundled CDP versions.
+ */
+public final class Cdp {
+
+    private Cdp() { }
+
+    /** Augmented views of remote (Grid) sessions, so I augment each session only once. */
+    private static final Map<WebDriver, WebDriver> AUGMENTED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /** True if the driver can run CDP commands (Chrome/Chromium, local or via Grid). */
+    public static boolean isSupported(WebDriver driver) {
+        return withCdp(driver) instanceof HasCdp;
+    }
+
+    /** Run a CDP command; throws UnsupportedOperationException for non-Chromium drivers. */
+    public static Map<String, Object> execute(WebDriver driver, String command, Map<String, Object> params) {
+        if (!(withCdp(driver) instanceof HasCdp cdp)) {
+            throw new UnsupportedOperationException("CDP is not available for " + driver.getClass().getSimpleName());
+        }
+        return cdp.executeCdpCommand(command, params == null ? Collections.emptyMap() : params);
+    }
+
+    /** RemoteWebDriver only exposes HasCdp after augmentation (Grid forwards the commands). */
+    private static WebDriver withCdp(WebDriver driver) {
+        if (driver instanceof HasCdp || !(driver instanceof RemoteWebDriver)) return driver;
+        return AUGMENTED.computeIfAbsent(driver, d -> new Augmenter().augment(d));
+    }
+
+    public static Map<String, Object> execute(WebDriver driver, String command) {
+        return execute(driver, command, null);
+    }
+}
@@ -0,0 +1,151 @@
+package utils;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The browser process tree behind a local Chrome session (browser + renderers + GPU/utility).
+ * - I find the browser process by the session's --user-data-dir (see {@link #of(WebDriver)}).
+ * - RSS comes from /proc/&lt;pid&gt;/status (Linux only; -1 elsewhere).
+ * - CPU time comes from ProcessHandle (portable).
+ * Remote sessions (Grid) have no local process, so {@link #of(WebDriver)} returns empty.
+ */
+public final class ChromeProcess {
+
+    private static final String USER_DATA_DIR = "--user-data-dir=";
+
+    private final ProcessHandle browser;
+
+    private ChromeProcess(ProcessHandle browser) {
+        this.browser = browser;
+    }
+
+    /**
+     * Locate the browser process of a local ChromeDriver session.
+     * ChromeDriver starts Chrome with --remote-debugging-port=0 (the real port only shows up in the
+     * DevToolsActivePort file), so the port is useless as an identity. The profile dir isn't: every
+     * session gets its own --user-data-dir, and ChromeDriver reports it as chrome.userDataDir.
+     * I look among this JVM's descendants first (chromedriver is my child, Chrome is its child) and
+     * only then at all processes, e.g. when the driver service was started outside this JVM.
+     */
+    public static Optional<ChromeProcess> of(WebDriver driver) {
+        String userDataDir = userDataDir(driver);
+        if (userDataDir == null) return Optional.empty();
+        Optional<ProcessHandle> browser = ProcessHandle.current().descendants()
+                .filter(p -> isBrowserOf(p.info(), userDataDir))
+                .findFirst();
+        if (browser.isEmpty()) {
+            browser = ProcessHandle.allProcesses()
+                    .filter(p -> isBrowserOf(p.info(), userDataDir))
+                    .findFirst();
+        }
+        return browser.map(ChromeProcess::new);
+    }
+
+    /** Profile dir of the session: chrome.userDataDir, else a --user-data-dir from goog:chromeOptions args. */
+    static String userDataDir(WebDriver driver) {
+        if (!(driver instanceof HasCapabilities hc)) return null;
+        Capabilities caps = hc.getCapabilities();
+        if (caps.getCapability("chrome") instanceof Map<?, ?> chrome && chrome.get("userDataDir") != null) {
+            return chrome.get("userDataDir").toString();
+        }
+        if (caps.getCapability("goog:chromeOptions") instanceof Map<?, ?> opts
+                && opts.get("args") instanceof List<?> args) {
+            for (Object a : args) {
+                String arg = String.valueOf(a);
+                if (arg.startsWith(USER_DATA_DIR)) return arg.substring(USER_DATA_DIR.length());
+            }
+        }
+        return null;
+    }
+
+    private static boolean isBrowserOf(ProcessHandle.Info info, String userDataDir) {
+        return info.arguments().map(args -> isBrowserOf(args, userDataDir)).orElse(false);
+    }
+
+    /** The browser itself (no --type=renderer/gpu/...) started on exactly that profile dir. */
+    static boolean isBrowserOf(String[] args, String userDataDir) {
+        String flag = USER_DATA_DIR + userDataDir;
+        boolean onProfile = false;
+        for (String a : args) {
+            if (a.startsWith("--type=")) return false; // child process, not the browser
+            if (a.equals(flag)) onProfile = true;
+        }
+        return onProfile;
+    }
+
+    public long pid() {
+        return browser.pid();
+    }
+
+    public boolean isAlive() {
+        return browser.isAlive();
+    }
+
+    /** Browser + all descendants that are still alive. */
+    public List<ProcessHandle> tree() {
+        List<ProcessHandle> all = new ArrayList<>();
+        all.add(browser);
+        browser.descendants().forEach(all::add);
+        return all;
+    }
+
+    /** Sum of VmRSS over the tree, in KB; -1 if /proc isn't available. */
+    public long rssKb() {
+        long total = 0;
+        boolean any = false;
+        for (ProcessHandle p : tree()) {
+            long kb = readRssKb(p.pid());
+            if (kb >= 0) {
+                total += kb;
+                any = true;
+            }
+        }
+        return any ? total : -1;
+    }
+
+    /** Total CPU time consumed by the tree so far (user + system). */
+    public Duration cpuTime() {
+        Duration total = Duration.ZERO;
+        for (ProcessHandle p : tree()) {
+            total = total.plus(p.info().totalCpuDuration().orElse(Duration.ZERO));
+        }
+        return total;
+    }
+
+    /** Kill the whole tree (browser last, so it can't respawn children). */
+    public void destroyTree() {
+        browser.descendants().forEach(ProcessHandle::destroyForcibly);
+        browser.destroyForcibly();
+    }
+
+    private static long readRssKb(long pid) {
+        return readKbField(Paths.get("/proc", Long.toString(pid), "status"), "VmRSS:");
+    }
+
+    /** Read a "Name:   1234 kB" line from a /proc file; -1 if missing. */
+    static long readKbField(Path file, String field) {
+        try {
+            for (String line : Files.readAllLines(file)) {
+                if (line.startsWith(field)) {
+                    String[] parts = line.substring(field.length()).trim().split("\\s+");
+                    return Long.parseLong(parts[0]);
+                }
+            }
+        } catch (IOException | RuntimeException ignored) {
+            // process gone / not Linux
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,169 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * DOM churn profiler for the live odds grid (ms-event-pick).
+ *
+ * {@link #start} installs one MutationObserver that aggregates IN the page – per market and per pick node –
+ * counts of attribute, text and child-list changes, plus whole-subtree replacements. Angular re-renders
+ * with separate removeChild and insertBefore/appendChild records, so I pair removed and added pick subtrees
+ * per market within one observer callback batch: each pair is a replacement, only the leftovers count as
+ * child-list changes. Nothing is stored per mutation and nothing crosses the wire until {@link #stop},
+ * so it's cheap enough to leave on during a normal test.
+ *
+ * Pick nodes get an id the first time they mutate; a re-rendered (replaced) pick shows up as a new id,
+ * which is exactly the wasted work I want to see. The observer's own callback time is reported as overhead.
+ */
+public final class DomChurnProfiler {
+
+    /** Per market/node counts. {@code node} is "pick-&lt;id&gt;" or "(container)" for grid-level child lists. */
+    public record Row(String market, String node, long attributes, long text, long childList, long replacements) {
+        public long total() {
+            return attributes + text + childList + replacements;
+        }
+    }
+
+    /** Result of one profiling window. */
+    public record Report(long windowMs, long records, double observerMs, List<Row> rows) {
+
+        /** Rows ranked by total changes, heaviest first. */
+        public List<Row> ranked() {
+            List<Row> sorted = new ArrayList<>(rows);
+            sorted.sort(Comparator.comparingLong(Row::total).reversed());
+            return sorted;
+        }
+
+        /** Heatmap data: one CSV line per market/node. */
+        public void writeCsv(Path file) {
+            StringBuilder sb = new StringBuilder("market,node,attributes,text,childList,replacements,total\n");
+            for (Row r : ranked()) {
+                sb.append('"').append(r.market().replace("\"", "'")).append('"')
+                        .append(',').append(r.node())
+                        .append(',').append(r.attributes()).append(',').append(r.text())
+                        .append(',').append(r.childList()).append(',').append(r.replacements())
+                        .append(',').append(r.total()).append('\n');
+            }
+            try {
+                Path parent = file.toAbsolutePath().getParent();
+                if (parent != null) Files.createDirectories(parent);
+                Files.writeString(file, sb, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Can't write churn heatmap to " + file, e);
+            }
+        }
+
+        /** Top-N lines for Reporter.log. */
+        public List<String> top(int n) {
+            List<String> out = new ArrayList<>();
+            for (Row r : ranked().subList(0, Math.min(n, rows.size()))) {
+                out.add(String.format(Locale.ROOT, "%-40s %-12s attr=%d text=%d child=%d replaced=%d total=%d",
+                        abbreviate(r.market(), 40), r.node(), r.attributes(), r.text(), r.childList(),
+                        r.replacements(), r.total()));
+            }
+            return out;
+        }
+    }
+
+    private static final String START_JS =
+            "if (window.__churn) { window.__churn.observer.disconnect(); }" +
+            "var c = window.__churn = {stats: {}, records: 0, observerMs: 0, started: performance.now()," +
+            "  ids: new WeakMap(), nextId: 1, labels: new WeakMap()};" +
+            "function isPick(n) { return n && n.nodeType === 1 && (n.matches('ms-event-pick') || !!n.querySelector('ms-event-pick')); }" +
+            "function pickOf(n) { var e = n && (n.nodeType === 1 ? n : n.parentElement); return e ? e.closest('ms-event-pick') : null; }" +
+            "function marketOf(e) {" +
+            "  var m = e && e.closest('ms-option-group, ms-market, ms-event');" +
+            "  if (!m) return '(grid)';" +
+            "  var l = c.labels.get(m);" +
+            "  if (!l) { l = (m.tagName.toLowerCase() + ': ' + ((m.textContent || '').trim().split('\\n')[0] || '').slice(0, 60));" +
+            "            c.labels.set(m, l); }" +
+            "  return l; }" +
+            "function bump(market, node, field, n) {" +
+            "  var k = market + '\\u0001' + node;" +
+            "  var s = c.stats[k] || (c.stats[k] = {market: market, node: node, a: 0, t: 0, c: 0, r: 0});" +
+            "  s[field] += (n === undefined ? 1 : n); }" +
+            "function countPicks(nodes) { var n = 0; for (var j = 0; j < nodes.length; j++) if (isPick(nodes[j])) n++; return n; }" +
+            "function idOf(p) { var id = c.ids.get(p); if (!id) { id = c.nextId++; c.ids.set(p, id); } return 'pick-' + id; }" +
+            "c.observer = new MutationObserver(function (list) {" +
+            "  var t0 = performance.now();" +
+            "  var moves = {};" +
+            "  for (var i = 0; i < list.length; i++) {" +
+            "    var m = list[i];" +
+            "    var pick = pickOf(m.target);" +
+            "    if (pick) {" +
+            "      bump(marketOf(pick), idOf(pick), m.type === 'attributes' ? 'a' : m.type === 'characterData' ? 't' : 'c');" +
+            "      c.records++; continue; }" +
+            "    if (m.type !== 'childList') continue;" +
+            "    var removed = countPicks(m.removedNodes), added = countPicks(m.addedNodes);" +
+            "    if (!removed && !added) continue;" +
+            "    var market = marketOf(m.target.nodeType === 1 ? m.target : m.target.parentElement);" +
+            "    var mv = moves[market] || (moves[market] = {removed: 0, added: 0});" +
+            "    mv.removed += removed; mv.added += added;" +
+            "    c.records++;" +
+            "  }" +
+            // removals and additions usually arrive as separate records of the same batch: pair them per market
+            "  for (var mk in moves) {" +
+            "    var pairs = Math.min(moves[mk].removed, moves[mk].added);" +
+            "    var rest = moves[mk].removed + moves[mk].added - 2 * pairs;" +
+            "    if (pairs) bump(mk, '(container)', 'r', pairs);" +
+            "    if (rest) bump(mk, '(container)', 'c', rest);" +
+            "  }" +
+            "  c.observerMs += performance.now() - t0;" +
+            "});" +
+            "c.observer.observe(document.body, {subtree: true, childList: true, attributes: true, characterData: true});" +
+            "return true;";
+
+    private static final String STOP_JS =
+            "var c = window.__churn; if (!c) return null;" +
+            "c.observer.disconnect(); window.__churn = null;" +
+            "var rows = []; for (var k in c.stats) rows.push(c.stats[k]);" +
+            "return {windowMs: performance.now() - c.started, records: c.records, observerMs: c.observerMs, rows: rows};";
+
+    private DomChurnProfiler() { }
+
+    /** Start observing the current document (restarts if already running). */
+    public static void start(WebDriver driver) {
+        ((JavascriptExecutor) driver).executeScript(START_JS);
+    }
+
+    /**
+     * Stop observing and fetch the aggregated counts.
+     * Returns an empty report if the page navigated away (the observer died with the document).
+     */
+    @SuppressWarnings("unchecked")
+    public static Report stop(WebDriver driver) {
+        Object raw = ((JavascriptExecutor) driver).executeScript(STOP_JS);
+        if (!(raw instanceof Map)) {
+            return new Report(0, 0, 0, List.of());
+        }
+        Map<String, Object> data = (Map<String, Object>) raw;
+        List<Row> rows = new ArrayList<>();
+        for (Object o : (List<Object>) data.getOrDefault("rows", List.of())) {
+            Map<String, Object> r = (Map<String, Object>) o;
+            rows.add(new Row(String.valueOf(r.get("market")), String.valueOf(r.get("node")),
+                    num(r.get("a")), num(r.get("t")), num(r.get("c")), num(r.get("r"))));
+        }
+        return new Report(num(data.get("windowMs")), num(data.get("records")),
+                data.get("observerMs") instanceof Number n ? n.doubleValue() : 0, rows);
+    }
+
+    private static long num(Object o) {
+        return o instanceof Number n ? n.longValue() : 0;
+    }
+
+    private static String abbreviate(String s, int max) {
+        return s.length() <= max ? s : s.substring(0, max - 3) + "...";
+    }
+}
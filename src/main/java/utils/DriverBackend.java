@@ -0,0 +1,64 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.Locale;
+
+/**
+ * Where the browser sessions come from. DriverFactory builds the common ChromeOptions
+ * (incognito, language prefs...) and the backend maps them onto its own runtime.
+ *
+ * Selected with -Ddriver.backend:
+ * - local          (default) ChromeDriver + Chrome on this machine
+ * - headless-shell chrome-headless-shell on this machine (smallest per-session footprint)
+ * - grid           RemoteWebDriver against a Selenium Grid standalone/hub (-Dgrid.url)
+ */
+public interface DriverBackend {
+
+    /** Short name used in -Ddriver.backend and logs. */
+    String name();
+
+    /**
+     * Map backend specifics onto the shared options: binary, headless flags, window size.
+     * @param headless what the user asked for via -Dheadless
+     */
+    void configure(ChromeOptions options, boolean headless);
+
+    /** True if sessions from this backend have no visible window (then I don't maximize). */
+    default boolean isHeadless(boolean requested) {
+        return requested;
+    }
+
+    /**
+     * Cheap check before the first session (driver resolvable, Grid reachable...).
+     * Throws a WebDriverException with a clear message if the backend can't work.
+     */
+    default void preflight() { }
+
+    /** Start a new session. */
+    WebDriver create(ChromeOptions options);
+
+    /** Post-create health check: the session answers a trivial command. */
+    default boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    /** Backend from -Ddriver.backend (default: local). */
+    static DriverBackend fromSystemProperties() {
+        String name = System.getProperty("driver.backend", "local").trim().toLowerCase(Locale.ROOT);
+        return switch (name) {
+            case "local" -> new LocalChromeBackend();
+            case "headless-shell" -> new HeadlessShellBackend();
+            case "grid" -> new GridBackend();
+            default -> throw new IllegalArgumentException(
+                    "Unknown -Ddriver.backend=" + name + " (expected local, headless-shell or grid)");
+        };
+    }
+}
@@ -1,9 +1,8 @@
 package utils;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.SessionNotCreatedException;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 
 import java.util.HashMap;
@@ -22,20 +21,30 @@ public class DriverFactory {
         return DRIVER.get();
     }
 
+    /** Backend chosen by -Ddriver.backend; preflight runs once per JVM. */
+    private static final DriverBackend BACKEND = DriverBackend.fromSystemProperties();
+    private static volatile boolean preflightDone;
+
+    /** Current backend (local / headless-shell / grid). */
+    public static DriverBackend getBackend() {
+        return BACKEND;
+    }
+
     /**
-     * Create a fresh ChromeDriver with sane defaults:
+     * Create a fresh session with sane defaults:
      * - incognito (per requirement)
      * - maximized (unless headless)
      * - optional language and headless via system properties
+     * The backend (-Ddriver.backend) decides where the browser actually runs.
      */
     public static void initDriver() {
         // Optional knobs (safe defaults):
         // -Dsite.lang=en|bg
         final String browserLang = System.getProperty("site.lang", "en");
         // -Dheadless=true to run in CI
-        final boolean headless = Boolean.parseBoolean(System.getProperty("headless", "false"));
+        final boolean headless = BACKEND.isHeadless(Boolean.parseBoolean(System.getProperty("headless", "false")));
 
-        WebDriverManager.chromedriver().setup();
+        preflightOnce();
 
         ChromeOptions options = new ChromeOptions();
         options.setPageLoadStrategy(PageLoadStrategy.NORMAL);
@@ -47,20 +56,28 @@ public class DriverFactory {
         prefs.put("intl.accept_languages", browserLang + "," + browserLang + "_" + browserLang.toUpperCase() + ",en");
         options.setExperimentalOption("prefs", prefs);
 
-        if (headless) {
-            // Use new headless mode; set a window size so responsive checks are deterministic
-            options.addArguments("--headless=new");
-            options.addArguments("--window-size=1366,900");
-        } else {
-            // In headed mode we'll just maximize after driver creation
-            options.addArguments("--start-maximized");
-        }
+        // Binary, headless flags and window size are backend-specific
+        BACKEND.configure(options, headless);
 
         // A couple of harmless quality-of-life flags (don’t impact the tests)
         options.addArguments("--disable-notifications");
         options.addArguments("--disable-infobars");
 
-        DRIVER.set(new ChromeDriver(options));
+        // Wait for host capacity (no-op unless -Dgovernor.enabled=true)
+        ResourceGovernor.get().acquire();
+        WebDriver driver;
+        try {
+            driver = BACKEND.create(options);
+            if (!BACKEND.isHealthy(driver)) {
+                try { driver.quit(); } catch (Exception ignored) {}
+                throw new SessionNotCreatedException("New " + BACKEND.name() + " session failed its health check.");
+            }
+        } catch (RuntimeException e) {
+            ResourceGovernor.get().release();
+            throw e;
+        }
+        ResourceGovernor.get().register(driver);
+        DRIVER.set(driver);
 
         // Maximize only when not headless (headless ignores it anyway)
         if (!headless) {
@@ -68,6 +85,16 @@ public class DriverFactory {
         }
     }
 
+    private static void preflightOnce() {
+        if (preflightDone) return;
+        synchronized (DriverFactory.class) {
+            if (!preflightDone) {
+                BACKEND.preflight();
+                preflightDone = true;
+            }
+        }
+    }
+
     /** Quit and clean up. Always removes the ThreadLocal reference. */
     public static void quitDriver() {
         WebDriver d = DRIVER.get();
@@ -76,6 +103,7 @@ public class DriverFactory {
                 d.quit();
             } finally {
                 DRIVER.remove();
+                ResourceGovernor.get().release();
             }
         }
     }
@@ -0,0 +1,144 @@
+package utils;
+
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * A test flow built from named steps (e.g. consent -> select outcome -> verify betslip).
+ * After each step succeeds I record a checkpoint. If a step fails with a transient error,
+ * I retry it from the last good checkpoint in the same browser session instead of
+ * rerunning the whole test (new browser, navigation, cookie consent...).
+ *
+ * Knobs:
+ * -Dflow.attempts=3   max attempts per step (including the first one)
+ */
+public class Flow {
+
+    /** Functional step body. */
+    @FunctionalInterface
+    public interface Step {
+        void run();
+    }
+
+    /** Per-step outcome: how many attempts it took, how long, and the last transient error. */
+    public record StepStats(String name, int attempts, long durationMs, boolean passed, String lastError) {
+        public int retries() {
+            return Math.max(0, attempts - 1);
+        }
+    }
+
+    private record StepDef(String name, Step action, Step recovery) { }
+
+    private final String name;
+    private final List<StepDef> steps = new ArrayList<>();
+    private final Map<String, StepStats> stats = new LinkedHashMap<>();
+    private int maxAttempts = Integer.getInteger("flow.attempts", 3);
+    private Predicate<Throwable> transientError = e -> e instanceof WebDriverException;
+    private String lastCheckpoint;
+
+    private Flow(String name) {
+        this.name = name;
+    }
+
+    /** Start describing a new flow. */
+    public static Flow named(String name) {
+        return new Flow(name);
+    }
+
+    /** Add a step. Steps run in the order they were added. */
+    public Flow step(String stepName, Step action) {
+        steps.add(new StepDef(stepName, action, null));
+        return this;
+    }
+
+    /**
+     * Add a step with a recovery action. The recovery runs before each retry,
+     * e.g. to close an overlay that intercepted the click.
+     */
+    public Flow step(String stepName, Step action, Step recovery) {
+        steps.add(new StepDef(stepName, action, recovery));
+        return this;
+    }
+
+    /** Override the attempt budget per step (default from -Dflow.attempts). */
+    public Flow maxAttempts(int attempts) {
+        this.maxAttempts = Math.max(1, attempts);
+        return this;
+    }
+
+    /** Override which errors count as transient (default: any WebDriverException). */
+    public Flow retryOn(Predicate<Throwable> predicate) {
+        this.transientError = predicate;
+        return this;
+    }
+
+    /**
+     * Run all steps from the start.
+     * A non-transient error (e.g. AssertionError) or an exhausted attempt budget is rethrown as-is,
+     * so the test fails with the original cause.
+     */
+    public void run() {
+        stats.clear();
+        lastCheckpoint = null;
+        for (StepDef step : steps) {
+            runStep(step);
+            lastCheckpoint = step.name();
+        }
+    }
+
+    private void runStep(StepDef step) {
+        long start = System.currentTimeMillis();
+        String lastError = null;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                if (attempt > 1 && step.recovery() != null) {
+                    step.recovery().run();
+                }
+                step.action().run();
+                stats.put(step.name(), new StepStats(step.name(), attempt,
+                        System.currentTimeMillis() - start, true, lastError));
+                return;
+            } catch (RuntimeException | Error e) {
+                lastError = e.getClass().getSimpleName();
+                boolean retry = attempt < maxAttempts && transientError.test(e);
+                if (!retry) {
+                    stats.put(step.name(), new StepStats(step.name(), attempt,
+                            System.currentTimeMillis() - start, false, lastError));
+                    throw e;
+                }
+                // retry from the last good checkpoint (same session, same page)
+            }
+        }
+    }
+
+    /** Name of the last step that completed, or null if none did. */
+    public String lastCheckpoint() {
+        return lastCheckpoint;
+    }
+
+    /** Stats of the steps that ran, in execution order. */
+    public List<StepStats> stats() {
+        return Collections.unmodifiableList(new ArrayList<>(stats.values()));
+    }
+
+    /** One line per step – handy for Reporter.log. */
+    public String report() {
+        StringBuilder sb = new StringBuilder("[Flow] " + name + ":");
+        for (StepStats s : stats.values()) {
+            sb.append("\n  ").append(s.name())
+                    .append(" -> ").append(s.passed() ? "OK" : "FAILED")
+                    .append(", attempts=").append(s.attempts())
+                    .append(", ").append(s.durationMs()).append(" ms");
+            if (s.lastError() != null) {
+                sb.append(", lastError=").append(s.lastError());
+            }
+        }
+        return sb.toString();
+    }
+}
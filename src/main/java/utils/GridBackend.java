@@ -0,0 +1,94 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Selenium Grid (standalone or hub with any number of nodes, on this host or others).
+ * The hub spreads sessions over its nodes, so capacity grows by adding nodes – tests don't change.
+ *
+ * -Dgrid.url=http://localhost:4444   Grid/hub address
+ */
+public class GridBackend implements DriverBackend {
+
+    private static final Duration STATUS_TIMEOUT = Duration.ofSeconds(5);
+
+    private final String gridUrl = System.getProperty("grid.url", "http://localhost:4444");
+
+    @Override
+    public String name() {
+        return "grid";
+    }
+
+    @Override
+    public void configure(ChromeOptions options, boolean headless) {
+        if (headless) {
+            options.addArguments("--headless=new");
+        }
+        // Remote windows can't always be maximized (e.g. nodes in containers), so I pin the size.
+        options.addArguments("--window-size=1366,900");
+    }
+
+    /** Grid answers GET /status with {"value": {"ready": true, "nodes": [...]}}. */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void preflight() {
+        String body;
+        try {
+            HttpClient client = HttpClient.newBuilder().connectTimeout(STATUS_TIMEOUT).build();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(trimSlash(gridUrl) + "/status"))
+                    .timeout(STATUS_TIMEOUT)
+                    .GET()
+                    .build();
+            body = client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        } catch (IOException e) {
+            throw new WebDriverException("Selenium Grid not reachable at " + gridUrl, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while checking Selenium Grid at " + gridUrl, e);
+        }
+
+        Map<String, Object> status = new Json().toType(body, Json.MAP_TYPE);
+        Map<String, Object> value = (Map<String, Object>) status.getOrDefault("value", Map.of());
+        if (!Boolean.TRUE.equals(value.get("ready"))) {
+            throw new WebDriverException("Selenium Grid at " + gridUrl + " is not ready: " + value.get("message"));
+        }
+        Object nodes = value.get("nodes");
+        if (nodes instanceof List<?> list && list.isEmpty()) {
+            throw new WebDriverException("Selenium Grid at " + gridUrl + " has no registered nodes.");
+        }
+    }
+
+    @Override
+    public boolean isHeadless(boolean requested) {
+        // Even a headed remote browser isn't on this screen; I never maximize remote windows.
+        return true;
+    }
+
+    @Override
+    public WebDriver create(ChromeOptions options) {
+        try {
+            return new RemoteWebDriver(new URL(trimSlash(gridUrl)), options);
+        } catch (MalformedURLException e) {
+            throw new WebDriverException("Invalid -Dgrid.url: " + gridUrl, e);
+        }
+    }
+
+    private static String trimSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
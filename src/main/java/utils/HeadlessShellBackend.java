@@ -0,0 +1,57 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * chrome-headless-shell: the old headless Chrome shipped as its own small binary.
+ * No UI code, so it has the lowest per-session memory/CPU of the local options.
+ *
+ * -Dchrome.headless.shell=/path/to/chrome-headless-shell (required)
+ *
+ * I don't call WebDriverManager here: it detects the *installed* Chrome version, which may differ
+ * from the shell's. Selenium Manager resolves the matching chromedriver from the binary instead.
+ */
+public class HeadlessShellBackend implements DriverBackend {
+
+    private final String binary = System.getProperty("chrome.headless.shell");
+
+    @Override
+    public String name() {
+        return "headless-shell";
+    }
+
+    @Override
+    public void configure(ChromeOptions options, boolean headless) {
+        options.setBinary(binary);
+        // The shell is always headless; without an explicit size it defaults to 800x600.
+        options.addArguments("--window-size=1366,900");
+    }
+
+    @Override
+    public boolean isHeadless(boolean requested) {
+        return true;
+    }
+
+    @Override
+    public void preflight() {
+        if (binary == null || binary.isBlank()) {
+            throw new WebDriverException("-Ddriver.backend=headless-shell needs -Dchrome.headless.shell=<path to binary>");
+        }
+        Path path = Paths.get(binary);
+        if (!Files.isExecutable(path)) {
+            throw new WebDriverException("chrome-headless-shell not found or not executable: " + path);
+        }
+    }
+
+    @Override
+    public WebDriver create(ChromeOptions options) {
+        return new ChromeDriver(options);
+    }
+}
@@ -0,0 +1,264 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Interaction-to-feedback probe around Actions clicks (outcome, A–Z tab, cookie accept).
+ *
+ * With -Dprobe.interactions=true I install two PerformanceObservers in the page (Event Timing + Long Tasks),
+ * click through Actions as usual, then read back the entry of that interaction:
+ * - input delay  = processingStart - startTime
+ * - processing   = processingEnd - processingStart
+ * - next paint   = startTime + duration - processingEnd
+ * plus the long tasks that overlapped it.
+ * Event Timing only reports interactions of 16 ms or more. I only record such a "fast" interaction as 16 ms
+ * total (upper bound; its phases stay unknown) once the page confirms it's done: a frame was rendered after the click, a task ran after that
+ * frame, and the observer's pending records (takeRecords) still hold no entry. If neither an entry nor that
+ * confirmation shows up within -Dprobe.entryWaitMs, the sample is written as "timeout" – slow pages hit that
+ * (e.g. slow-3g+cpu-4x), so the summary counts timeouts separately instead of folding them into the percentiles.
+ *
+ * Samples are appended to -Dprobe.out (default target/interactions.csv), so percentiles aggregate
+ * across runs and viewports. Without the flag, {@link #click} is just the plain Actions click.
+ */
+public final class InteractionProbe {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("probe.interactions", "false"));
+    private static final Path OUT = Paths.get(System.getProperty("probe.out", "target/interactions.csv"));
+    private static final String CSV_HEADER =
+            "label,context,inputDelayMs,processingMs,nextPaintMs,totalMs,longTasks,longTaskMs,status";
+    private static final long ENTRY_WAIT_MS = Long.getLong("probe.entryWaitMs", 2000L);
+    private static final double MIN_REPORTED_MS = 16;
+
+    /** Context of the current thread's run (viewport, throttling...), set by the test bootstrap. */
+    private static final ThreadLocal<String> CONTEXT = ThreadLocal.withInitial(() -> "default");
+
+    // Install once per document; arm() clears the buffers and returns the page clock.
+    private static final String ARM_JS =
+            "var p = window.__ixProbe;" +
+            "if (!p) {" +
+            "  p = window.__ixProbe = {events: [], longtasks: [], settledAt: 0};" +
+            "  p.push = function (list) { list.forEach(function (e) {" +
+            "    p.events.push({start: e.startTime, ps: e.processingStart, pe: e.processingEnd, dur: e.duration," +
+            "                   id: e.interactionId || 0}); }); };" +
+            "  try { p.eventObserver = new PerformanceObserver(function (l) { p.push(l.getEntries()); });" +
+            "    p.eventObserver.observe({type: 'event', buffered: false, durationThreshold: 16}); } catch (e) {}" +
+            "  try { new PerformanceObserver(function (l) { l.getEntries().forEach(function (e) {" +
+            "    p.longtasks.push({start: e.startTime, dur: e.duration}); }); })" +
+            "    .observe({type: 'longtask', buffered: false}); } catch (e) {}" +
+            "}" +
+            "p.events.length = 0; p.longtasks.length = 0; p.settledAt = 0;" +
+            "return performance.now();";
+
+    // Right after the click: the click's entry (if >= 16 ms) is queued when the frame after its handlers renders,
+    // so once a task has run after the next frame, either the entry exists or the interaction was under 16 ms.
+    private static final String SETTLE_JS =
+            "var p = window.__ixProbe; if (!p) return false;" +
+            "requestAnimationFrame(function () { setTimeout(function () { p.settledAt = performance.now(); }, 0); });" +
+            "return true;";
+
+    // takeRecords() flushes entries the observer hasn't delivered yet (its callback may lag on a busy page).
+    private static final String COLLECT_JS =
+            "var p = window.__ixProbe; if (!p) return null;" +
+            "if (p.eventObserver) p.push(p.eventObserver.takeRecords());" +
+            "return {events: p.events.slice(), longtasks: p.longtasks.slice(), settled: p.settledAt > 0};";
+
+    /** How a sample was obtained: a real Event Timing entry, the confirmed under-16 ms bound, or nothing in time. */
+    public enum Status { OK, FAST, TIMEOUT }
+
+    /** One measured interaction (timings are -1 for TIMEOUT; for FAST only the total is known, the phases are -1). */
+    public record Sample(String label, String context, double inputDelayMs, double processingMs,
+                         double nextPaintMs, double totalMs, int longTasks, double longTaskMs, Status status) { }
+
+    private InteractionProbe() { }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /** Tag the following samples of this thread, e.g. "mobile". */
+    public static void setContext(String context) {
+        CONTEXT.set(context == null ? "default" : context);
+    }
+
+    /**
+     * moveToElement -> pause -> click via Actions; measured when the probe is enabled.
+     * Click errors (stale, intercepted...) propagate unchanged; probe errors never do.
+     */
+    public static void click(WebDriver driver, WebElement target, String label, Duration pause) {
+        Double armedAt = ENABLED ? arm(driver) : null;
+        new Actions(driver).moveToElement(target).pause(pause).click().perform();
+        if (armedAt != null) {
+            Sample s = collect(driver, label, armedAt);
+            if (s != null) append(s);
+        }
+    }
+
+    private static Double arm(WebDriver driver) {
+        try {
+            Object now = ((JavascriptExecutor) driver).executeScript(ARM_JS);
+            return now instanceof Number n ? n.doubleValue() : null;
+        } catch (WebDriverException | ClassCastException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Wait for the Event Timing entry (it arrives after the next paint) or for the page to confirm the
+     * interaction finished without one, up to -Dprobe.entryWaitMs, and build a sample.
+     */
+    @SuppressWarnings("unchecked")
+    private static Sample collect(WebDriver driver, String label, double armedAt) {
+        long end = System.currentTimeMillis() + ENTRY_WAIT_MS;
+        Map<String, Object> data = null;
+        Map<String, Object> best = null;
+        boolean settled = false;
+        try {
+            if (!Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(SETTLE_JS))) {
+                return null; // page navigated away / probe gone
+            }
+            while (System.currentTimeMillis() < end) {
+                data = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(COLLECT_JS);
+                if (data == null) return null;
+                best = slowestInteraction(data, armedAt);
+                settled = Boolean.TRUE.equals(data.get("settled"));
+                if (best != null || settled) break;
+                try { Thread.sleep(50); } catch (InterruptedException ignored) {}
+            }
+        } catch (WebDriverException | ClassCastException e) {
+            return null; // page navigated away / probe gone
+        }
+        if (data == null) return null;
+
+        if (best == null) {
+            if (!settled) {
+                // No entry and no proof it finished: slow, not fast. Never report it as 16 ms.
+                return new Sample(label, CONTEXT.get(), -1, -1, -1, -1, 0, 0, Status.TIMEOUT);
+            }
+            // Confirmed done under the 16 ms Event Timing threshold: report the bound, the phases are unknown.
+            return new Sample(label, CONTEXT.get(), -1, -1, -1, MIN_REPORTED_MS, 0, 0, Status.FAST);
+        }
+        double start = num(best.get("start"));
+        double ps = num(best.get("ps"));
+        double pe = num(best.get("pe"));
+        double dur = num(best.get("dur"));
+
+        int longTasks = 0;
+        double longTaskMs = 0;
+        for (Object o : (List<Object>) data.getOrDefault("longtasks", List.of())) {
+            Map<String, Object> lt = (Map<String, Object>) o;
+            double ltStart = num(lt.get("start"));
+            double ltDur = num(lt.get("dur"));
+            if (ltStart < start + dur && ltStart + ltDur > start) {
+                longTasks++;
+                longTaskMs += ltDur;
+            }
+        }
+        return new Sample(label, CONTEXT.get(), ps - start, pe - ps, start + dur - pe, dur, longTasks, longTaskMs,
+                Status.OK);
+    }
+
+    /** Slowest event entry that belongs to an interaction started after arming. */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> slowestInteraction(Map<String, Object> data, double armedAt) {
+        if (data == null) return null;
+        Map<String, Object> best = null;
+        for (Object o : (List<Object>) data.getOrDefault("events", List.of())) {
+            Map<String, Object> e = (Map<String, Object>) o;
+            if (num(e.get("id")) <= 0 || num(e.get("start")) < armedAt) continue;
+            if (best == null || num(e.get("dur")) > num(best.get("dur"))) best = e;
+        }
+        return best;
+    }
+
+    private static double num(Object o) {
+        return o instanceof Number n ? n.doubleValue() : 0;
+    }
+
+    private static synchronized void append(Sample s) {
+        try {
+            Path parent = OUT.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+            boolean fresh = !Files.exists(OUT);
+            String line = String.format(Locale.ROOT, "%s,%s,%.1f,%.1f,%.1f,%.1f,%d,%.1f,%s%n",
+                    s.label(), s.context(), s.inputDelayMs(), s.processingMs(), s.nextPaintMs(),
+                    s.totalMs(), s.longTasks(), s.longTaskMs(), s.status().name().toLowerCase(Locale.ROOT));
+            Files.writeString(OUT, (fresh ? CSV_HEADER + System.lineSeparator() : "") + line,
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException ignored) {
+            // measurement output only; never fail a click because of it
+        }
+    }
+
+    /**
+     * Percentiles per (label, context) over every sample in the CSV, i.e. across runs.
+     * One line per group: "outcome [mobile] n=12 timeouts=1 | inputDelay p50=3 p99=40 | ..."
+     * Timeouts have no timings, so they're counted, not part of the percentiles. Fast samples only know
+     * their total (16 ms), so they only count there; each column skips unknown (-1) values.
+     */
+    public static synchronized List<String> summary() {
+        Map<String, List<double[]>> groups = new TreeMap<>();
+        Map<String, Integer> timeouts = new TreeMap<>();
+        try {
+            if (!Files.exists(OUT)) return List.of();
+            for (String line : Files.readAllLines(OUT, StandardCharsets.UTF_8)) {
+                String[] f = line.split(",");
+                if (f.length < 8 || f[0].equals("label")) continue;
+                String group = f[0] + " [" + f[1] + "]";
+                groups.computeIfAbsent(group, k -> new ArrayList<>());
+                // rows written before the status column existed are plain measurements
+                String status = f.length > 8 ? f[8].trim() : "ok";
+                if ("timeout".equals(status)) {
+                    timeouts.merge(group, 1, Integer::sum);
+                    continue;
+                }
+                // older fast rows were written with 0 phases; they're unknown either way
+                boolean fast = "fast".equals(status);
+                groups.get(group).add(new double[] {
+                        fast ? -1 : Double.parseDouble(f[2]), fast ? -1 : Double.parseDouble(f[3]),
+                        fast ? -1 : Double.parseDouble(f[4]), Double.parseDouble(f[5]),
+                        fast ? -1 : Double.parseDouble(f[7])});
+            }
+        } catch (IOException | RuntimeException e) {
+            return List.of("[Interactions] can't read " + OUT + ": " + e.getMessage());
+        }
+
+        String[] names = {"inputDelay", "processing", "nextPaint", "total", "longTaskMs"};
+        List<String> out = new ArrayList<>();
+        groups.forEach((group, rows) -> {
+            StringBuilder sb = new StringBuilder(group).append(" n=").append(rows.size())
+                    .append(" timeouts=").append(timeouts.getOrDefault(group, 0));
+            if (rows.isEmpty()) {
+                out.add(sb.toString());
+                return;
+            }
+            for (int i = 0; i < names.length; i++) {
+                List<Long> col = new ArrayList<>();
+                for (double[] r : rows) {
+                    if (r[i] >= 0) col.add(Math.round(r[i]));
+                }
+                sb.append(" | ").append(names[i])
+                        .append(" p50=").append(Stats.percentile(col, 50))
+                        .append(" p99=").append(Stats.percentile(col, 99));
+            }
+            out.add(sb.toString());
+        });
+        return out;
+    }
+}
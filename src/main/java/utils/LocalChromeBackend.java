@@ -0,0 +1,39 @@
+package utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+/**
+ * Default backend: installed Chrome driven by a local ChromeDriver (resolved by WebDriverManager).
+ */
+public class LocalChromeBackend implements DriverBackend {
+
+    @Override
+    public String name() {
+        return "local";
+    }
+
+    @Override
+    public void configure(ChromeOptions options, boolean headless) {
+        if (headless) {
+            // Use new headless mode; set a window size so responsive checks are deterministic
+            options.addArguments("--headless=new");
+            options.addArguments("--window-size=1366,900");
+        } else {
+            // In headed mode we'll just maximize after driver creation
+            options.addArguments("--start-maximized");
+        }
+    }
+
+    @Override
+    public void preflight() {
+        WebDriverManager.chromedriver().setup();
+    }
+
+    @Override
+    public WebDriver create(ChromeOptions options) {
+        return new ChromeDriver(options);
+    }
+}
@@ -0,0 +1,256 @@
+package utils;
+
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Host-aware admission control for browser sessions.
+ *
+ * Before DriverFactory starts a browser it asks for a permit. I admit the session only while:
+ * - fewer than governor.maxSessions are running,
+ * - host free memory (MemAvailable) minus what running sessions are still expected to grow into
+ *   leaves governor.minFreeMb after one more session of the estimated size,
+ * - 1-minute load average per CPU is below governor.maxLoadPerCpu.
+ * Otherwise the caller waits in FIFO order (up to governor.admitTimeoutSec).
+ *
+ * A watchdog measures each session's browser process tree (see {@link ChromeProcess}); the per-session
+ * estimate follows the measured peaks, and a session above governor.maxSessionRssMb is killed so it
+ * fails one test fast instead of thrashing the whole runner. Its slot is recycled on quit.
+ *
+ * Knobs (all optional, -Dgovernor.enabled=true to turn it on):
+ * -Dgovernor.maxSessions=&lt;cpus&gt;  -Dgovernor.minFreeMb=1024  -Dgovernor.maxLoadPerCpu=1.5
+ * -Dgovernor.sessionEstimateMb=700 -Dgovernor.maxSessionRssMb=2500  -Dgovernor.admitTimeoutSec=600
+ */
+public final class ResourceGovernor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ResourceGovernor.class);
+
+    private static final int CPUS = Runtime.getRuntime().availableProcessors();
+
+    private static final ResourceGovernor INSTANCE = new ResourceGovernor();
+
+    /** One admitted session; the process is known only after the browser started (local backends). */
+    private static final class Session {
+        volatile ChromeProcess process;
+        volatile long currentRssMb;
+        volatile long peakRssMb;
+        volatile Duration lastCpu;
+        volatile long lastMeasuredAt;
+        volatile double cpuPct;
+        volatile boolean killed;
+    }
+
+    private final boolean enabled = Boolean.parseBoolean(System.getProperty("governor.enabled", "false"));
+    private final int maxSessions = Integer.getInteger("governor.maxSessions", CPUS);
+    private final long minFreeMb = Long.getLong("governor.minFreeMb", 1024L);
+    private final double maxLoadPerCpu = Double.parseDouble(System.getProperty("governor.maxLoadPerCpu", "1.5"));
+    private final long maxSessionRssMb = Long.getLong("governor.maxSessionRssMb", 2500L);
+    private final long admitTimeoutMs = Long.getLong("governor.admitTimeoutSec", 600L) * 1000;
+
+    /** Expected footprint of a new session; follows measured peaks (exponential smoothing). */
+    private volatile long sessionEstimateMb = Long.getLong("governor.sessionEstimateMb", 700L);
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition changed = lock.newCondition();
+    private long nextTicket;
+    private long servingTicket;
+    private final Set<Long> abandoned = new HashSet<>();
+
+    private final Set<Session> sessions = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<Session> current = new ThreadLocal<>();
+    private ScheduledExecutorService watchdog;
+    private final AtomicBoolean unmeasuredWarned = new AtomicBoolean();
+
+    private ResourceGovernor() { }
+
+    public static ResourceGovernor get() {
+        return INSTANCE;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Block until the host has room for one more session (FIFO), then reserve it for this thread.
+     * Throws SessionNotCreatedException if no room shows up within governor.admitTimeoutSec.
+     */
+    public void acquire() {
+        if (!enabled) return;
+        startWatchdogOnce();
+
+        long deadline = System.currentTimeMillis() + admitTimeoutMs;
+        lock.lock();
+        try {
+            long ticket = nextTicket++;
+            while (true) {
+                String blocker = ticket == servingTicket ? admissionBlocker() : "queued";
+                if (blocker == null) break;
+                long left = deadline - System.currentTimeMillis();
+                if (left <= 0) {
+                    // give up my place, otherwise the queue stalls behind me
+                    abandoned.add(ticket);
+                    skipAbandoned();
+                    changed.signalAll();
+                    throw new SessionNotCreatedException("Resource governor: no capacity for a new browser within "
+                            + admitTimeoutMs / 1000 + " s (" + blocker + ")");
+                }
+                // Host state changes without anyone signalling (other processes), so I re-check every second.
+                changed.await(Math.min(left, 1000), TimeUnit.MILLISECONDS);
+            }
+            servingTicket++;
+            skipAbandoned();
+            Session s = new Session();
+            sessions.add(s);
+            current.set(s);
+            changed.signalAll();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SessionNotCreatedException("Interrupted while waiting for browser capacity");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Move the head of the queue past callers that timed out. Call with the lock held. */
+    private void skipAbandoned() {
+        while (abandoned.remove(servingTicket)) {
+            servingTicket++;
+        }
+    }
+
+    /**
+     * Attach the started browser to this thread's permit so the watchdog can measure it.
+     * Sessions without a local process (Grid, or a profile dir I can't match) are admitted but never
+     * measured: no estimate update, no RSS kill. I say so once, not once per test.
+     */
+    public void register(WebDriver driver) {
+        Session s = current.get();
+        if (s == null) return;
+        Optional<ChromeProcess> process = ChromeProcess.of(driver);
+        if (process.isPresent()) {
+            s.process = process.get();
+        } else if (unmeasuredWarned.compareAndSet(false, true)) {
+            LOG.warn("[Governor] Can't find a local browser process for this {} session: the RSS watchdog "
+                    + "is off for it (and for any other unmeasurable session); admission still uses host "
+                    + "memory/load and the session cap.", DriverFactory.getBackend().name());
+        } else {
+            LOG.debug("[Governor] Session not measurable, watchdog off for it");
+        }
+    }
+
+    /** Give this thread's permit back (after quit, or if the browser never started). */
+    public void release() {
+        Session s = current.get();
+        if (s == null) return;
+        current.remove();
+        sessions.remove(s);
+        if (s.peakRssMb > 0 && !s.killed) {
+            sessionEstimateMb = Math.round(0.7 * sessionEstimateMb + 0.3 * s.peakRssMb);
+        }
+        lock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Null if a new session may start now, otherwise the reason it can't. */
+    private String admissionBlocker() {
+        if (sessions.isEmpty()) {
+            return null; // always let one session run, or a busy host would starve the suite
+        }
+        if (sessions.size() >= maxSessions) {
+            return sessions.size() + "/" + maxSessions + " sessions running";
+        }
+        long freeMb = hostAvailableMb();
+        if (freeMb >= 0) {
+            // running sessions that haven't reached the estimate yet will still take memory
+            long stillGrowing = 0;
+            for (Session s : sessions) {
+                stillGrowing += Math.max(0, sessionEstimateMb - s.currentRssMb);
+            }
+            long after = freeMb - stillGrowing - sessionEstimateMb;
+            if (after < minFreeMb) {
+                return "free " + freeMb + " MB, would leave " + after + " MB < " + minFreeMb + " MB headroom";
+            }
+        }
+        double load = ManagementFactory.getOperatingSystemMXBean().getSystemLoadAverage();
+        if (load >= 0 && load / CPUS > maxLoadPerCpu) {
+            return String.format("load %.2f per CPU > %.2f", load / CPUS, maxLoadPerCpu);
+        }
+        return null;
+    }
+
+    /** MemAvailable from /proc/meminfo in MB; -1 if unknown (not Linux). */
+    private static long hostAvailableMb() {
+        long kb = ChromeProcess.readKbField(Paths.get("/proc/meminfo"), "MemAvailable:");
+        return kb < 0 ? -1 : kb / 1024;
+    }
+
+    private synchronized void startWatchdogOnce() {
+        if (watchdog != null) return;
+        long intervalSec = Long.getLong("governor.watchIntervalSec", 5L);
+        watchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "resource-governor");
+            t.setDaemon(true);
+            return t;
+        });
+        watchdog.scheduleWithFixedDelay(this::measure, intervalSec, intervalSec, TimeUnit.SECONDS);
+    }
+
+    /** Watchdog tick: refresh footprints, kill sessions that ballooned. */
+    private void measure() {
+        try {
+            for (Session s : sessions) {
+                ChromeProcess p = s.process;
+                if (p == null || s.killed || !p.isAlive()) continue;
+                long kb = p.rssKb();
+                if (kb < 0) continue;
+                s.currentRssMb = kb / 1024;
+                s.peakRssMb = Math.max(s.peakRssMb, s.currentRssMb);
+
+                long now = System.currentTimeMillis();
+                Duration cpu = p.cpuTime();
+                if (s.lastCpu != null) {
+                    s.cpuPct = 100.0 * cpu.minus(s.lastCpu).toMillis() / Math.max(1, now - s.lastMeasuredAt);
+                }
+                s.lastCpu = cpu;
+                s.lastMeasuredAt = now;
+                LOG.debug("[Governor] Browser pid {}: {} MB RSS, {}% CPU", p.pid(), s.currentRssMb, Math.round(s.cpuPct));
+
+                if (s.currentRssMb > maxSessionRssMb) {
+                    LOG.warn("[Governor] Browser pid {} uses {} MB > {} MB ({}% CPU), killing it",
+                            p.pid(), s.currentRssMb, maxSessionRssMb, Math.round(s.cpuPct));
+                    s.killed = true;
+                    p.destroyTree();
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.debug("[Governor] measure failed", e);
+        }
+        lock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
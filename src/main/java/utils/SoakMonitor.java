@@ -0,0 +1,204 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Long-running memory/CPU soak monitor for one open page.
+ *
+ * Every interval I take ONE sample:
+ * - page side: a single CDP Performance.getMetrics call (JS heap, DOM nodes, event listeners,
+ *   layout/recalc-style counters) – no injected JS, nothing left running in the page;
+ * - host side: RSS/CPU of the Chrome process tree (see {@link ChromeProcess}).
+ * Samples are streamed to a CSV as they come, so a killed run still leaves data behind.
+ *
+ * At the end I run a Mann-Kendall trend test on the gauges that should stay flat
+ * (heap, nodes, listeners, RSS) and flag monotonic growth as leak suspects.
+ * The monitor's own cost (time spent sampling / wall time) is reported too.
+ */
+public class SoakMonitor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SoakMonitor.class);
+
+    /** One sample. Counters (layouts/recalcs) are cumulative since the page was opened. */
+    public record Sample(long elapsedMs, double jsHeapUsedMb, double jsHeapTotalMb, long domNodes,
+                         long eventListeners, long layoutCount, long recalcStyleCount,
+                         long rssMb, double cpuPct, long sampleCostMs) { }
+
+    /** Outcome of a soak run. */
+    public record Report(Path csv, List<Sample> samples, Map<String, Double> trendZ,
+                         List<String> leakSuspects, double overheadPct) { }
+
+    /** Z above this = monotonic growth (~99% one-sided). */
+    private static final double LEAK_Z = 2.33;
+    /** Below this many samples a trend test says nothing useful. */
+    private static final int MIN_SAMPLES_FOR_TREND = 8;
+
+    private static final String CSV_HEADER = "timestamp,elapsedMs,jsHeapUsedMb,jsHeapTotalMb,domNodes,"
+            + "eventListeners,layoutCount,recalcStyleCount,rssMb,cpuPct,sampleCostMs";
+
+    private final WebDriver driver;
+    private final Duration duration;
+    private final Duration interval;
+    private final Path csv;
+
+    public SoakMonitor(WebDriver driver, Duration duration, Duration interval, Path csv) {
+        this.driver = driver;
+        this.duration = duration;
+        this.interval = interval;
+        this.csv = csv;
+    }
+
+    /**
+     * Run on the calling thread (WebDriver isn't thread-safe, and the test has nothing else to do).
+     * @param onSample called after each sample, e.g. to log progress
+     */
+    public Report run(Consumer<Sample> onSample) {
+        Cdp.execute(driver, "Performance.enable", Map.of("timeDomain", "timeTicks"));
+        Optional<ChromeProcess> chrome = ChromeProcess.of(driver);
+        if (chrome.isEmpty()) {
+            LOG.warn("[Soak] No local Chrome process found for this session (remote/Grid or unknown profile dir): "
+                    + "rssMb/cpuPct will be -1 in {}", csv);
+        }
+
+        List<Sample> samples = new ArrayList<>();
+        long start = System.currentTimeMillis();
+        long end = start + duration.toMillis();
+        long sampling = 0;
+        Duration lastCpu = chrome.map(ChromeProcess::cpuTime).orElse(Duration.ZERO);
+        long lastWall = start;
+
+        try {
+            Files.createDirectories(csv.toAbsolutePath().getParent());
+            try (BufferedWriter out = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+                out.write(CSV_HEADER);
+                out.newLine();
+
+                while (true) {
+                    long t0 = System.currentTimeMillis();
+                    Map<String, Double> m = metrics();
+
+                    long rssMb = -1;
+                    double cpuPct = -1;
+                    if (chrome.isPresent() && chrome.get().isAlive()) {
+                        long kb = chrome.get().rssKb();
+                        rssMb = kb < 0 ? -1 : kb / 1024;
+                        Duration cpu = chrome.get().cpuTime();
+                        long wall = Math.max(1, t0 - lastWall);
+                        cpuPct = 100.0 * cpu.minus(lastCpu).toMillis() / wall;
+                        lastCpu = cpu;
+                        lastWall = t0;
+                    }
+                    long cost = System.currentTimeMillis() - t0;
+                    sampling += cost;
+
+                    Sample s = new Sample(t0 - start,
+                            m.getOrDefault("JSHeapUsedSize", -1.0) / (1024 * 1024),
+                            m.getOrDefault("JSHeapTotalSize", -1.0) / (1024 * 1024),
+                            m.getOrDefault("Nodes", -1.0).longValue(),
+                            m.getOrDefault("JSEventListeners", -1.0).longValue(),
+                            m.getOrDefault("LayoutCount", -1.0).longValue(),
+                            m.getOrDefault("RecalcStyleCount", -1.0).longValue(),
+                            rssMb, cpuPct, cost);
+                    samples.add(s);
+                    out.write(toCsv(s));
+                    out.newLine();
+                    out.flush();
+                    if (onSample != null) onSample.accept(s);
+
+                    long next = t0 + interval.toMillis();
+                    if (next > end || Thread.currentThread().isInterrupted()) break;
+                    sleepUntil(next);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't write soak samples to " + csv, e);
+        } finally {
+            try {
+                Cdp.execute(driver, "Performance.disable");
+            } catch (RuntimeException ignored) { }
+        }
+
+        long wall = Math.max(1, System.currentTimeMillis() - start);
+        Map<String, Double> trend = trends(samples);
+        List<String> suspects = new ArrayList<>();
+        if (samples.size() >= MIN_SAMPLES_FOR_TREND) {
+            trend.forEach((name, z) -> {
+                if (z > LEAK_Z) suspects.add(name);
+            });
+        }
+        return new Report(csv, samples, trend, suspects, 100.0 * sampling / wall);
+    }
+
+    /** Performance.getMetrics -> name/value map. */
+    @SuppressWarnings("unchecked")
+    private Map<String, Double> metrics() {
+        Map<String, Double> out = new HashMap<>();
+        Object list = Cdp.execute(driver, "Performance.getMetrics").get("metrics");
+        if (list instanceof List) {
+            for (Object o : (List<Object>) list) {
+                Map<String, Object> metric = (Map<String, Object>) o;
+                Object value = metric.get("value");
+                if (value instanceof Number n) {
+                    out.put(String.valueOf(metric.get("name")), n.doubleValue());
+                }
+            }
+        }
+        return out;
+    }
+
+    /** Trend Z per gauge that should stay flat over a soak (counters excluded on purpose). */
+    private static Map<String, Double> trends(List<Sample> samples) {
+        Map<String, ToDoubleFunction<Sample>> gauges = new LinkedHashMap<>();
+        gauges.put("jsHeapUsedMb", Sample::jsHeapUsedMb);
+        gauges.put("domNodes", s -> s.domNodes());
+        gauges.put("eventListeners", s -> s.eventListeners());
+        gauges.put("rssMb", s -> s.rssMb());
+
+        Map<String, Double> out = new LinkedHashMap<>();
+        gauges.forEach((name, f) -> {
+            List<Double> series = new ArrayList<>();
+            for (Sample s : samples) {
+                double v = f.applyAsDouble(s);
+                if (v >= 0) series.add(v);
+            }
+            out.put(name, Stats.mannKendallZ(series));
+        });
+        return out;
+    }
+
+    private static String toCsv(Sample s) {
+        return Instant.now() + "," + s.elapsedMs()
+                + "," + String.format(Locale.ROOT, "%.2f", s.jsHeapUsedMb())
+                + "," + String.format(Locale.ROOT, "%.2f", s.jsHeapTotalMb())
+                + "," + s.domNodes() + "," + s.eventListeners()
+                + "," + s.layoutCount() + "," + s.recalcStyleCount()
+                + "," + s.rssMb() + "," + String.format(Locale.ROOT, "%.1f", s.cpuPct())
+                + "," + s.sampleCostMs();
+    }
+
+    private static void sleepUntil(long epochMs) {
+        long ms = epochMs - System.currentTimeMillis();
+        if (ms <= 0) return;
+        try { Thread.sleep(ms); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+    }
+}
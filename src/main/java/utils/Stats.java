@@ -0,0 +1,55 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Small numeric helpers for the benchmark/timing logs (no stats library needed).
+ */
+public final class Stats {
+
+    private Stats() { }
+
+    /**
+     * Nearest-rank percentile (p in 0..100). Returns -1 for an empty sample.
+     * With few samples p99 is simply the max – good enough for a handful of runs.
+     */
+    public static long percentile(Collection<Long> samples, double p) {
+        if (samples == null || samples.isEmpty()) return -1;
+        List<Long> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        int rank = (int) Math.ceil(p / 100.0 * sorted.size());
+        return sorted.get(Math.min(sorted.size() - 1, Math.max(0, rank - 1)));
+    }
+
+    /** "n=5 p50=120 p99=480 max=480" – one-liner for Reporter.log. */
+    public static String summary(Collection<Long> samples) {
+        if (samples == null || samples.isEmpty()) return "n=0";
+        return "n=" + samples.size()
+                + " p50=" + percentile(samples, 50)
+                + " p99=" + percentile(samples, 99)
+                + " max=" + Collections.max(samples);
+    }
+
+    /**
+     * Mann-Kendall trend statistic (normal approximation, no tie correction).
+     * Z &gt; ~2.33 means a monotonic upward trend at ~99% one-sided confidence.
+     * Returns 0 for fewer than 3 points.
+     */
+    public static double mannKendallZ(List<Double> series) {
+        int n = series == null ? 0 : series.size();
+        if (n < 3) return 0;
+        long s = 0;
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                s += Integer.signum(Double.compare(series.get(j), series.get(i)));
+            }
+        }
+        double variance = n * (n - 1) * (2.0 * n + 5) / 18.0;
+        if (s > 0) return (s - 1) / Math.sqrt(variance);
+        if (s < 0) return (s + 1) / Math.sqrt(variance);
+        return 0;
+    }
+}
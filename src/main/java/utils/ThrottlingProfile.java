@@ -0,0 +1,79 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Named network/CPU throttling profiles applied through CDP (Network + Emulation domains).
+ * Presets follow the Chrome DevTools / Lighthouse values:
+ * - "none"     no throttling
+ * - "4g"       150 ms RTT, 1.6 Mbps down, 750 kbps up (Lighthouse mobile network)
+ * - "fast-3g"  562.5 ms RTT, 1.44 Mbps down, 675 kbps up
+ * - "slow-3g"  2000 ms RTT, 400 kbps down, 400 kbps up
+ * - "cpu-4x"   4x CPU slowdown only
+ * Profiles combine with "+", e.g. "4g+cpu-4x" (network from one, CPU from the other).
+ */
+public record ThrottlingProfile(String name, double latencyMs, double downKbps, double upKbps, double cpuRate) {
+
+    private static final Map<String, ThrottlingProfile> PRESETS = new LinkedHashMap<>();
+
+    static {
+        add(new ThrottlingProfile("none", 0, -1, -1, 1));
+        add(new ThrottlingProfile("4g", 150, 1600, 750, 1));
+        add(new ThrottlingProfile("fast-3g", 562.5, 1440, 675, 1));
+        add(new ThrottlingProfile("slow-3g", 2000, 400, 400, 1));
+        add(new ThrottlingProfile("cpu-4x", 0, -1, -1, 4));
+    }
+
+    private static void add(ThrottlingProfile p) {
+        PRESETS.put(p.name(), p);
+    }
+
+    /** Parse "4g", "slow-3g+cpu-4x"... (case-insensitive; null/blank = none). */
+    public static ThrottlingProfile parse(String spec) {
+        if (spec == null || spec.isBlank()) return PRESETS.get("none");
+        ThrottlingProfile result = PRESETS.get("none");
+        for (String part : spec.toLowerCase(Locale.ROOT).split("\\+")) {
+            ThrottlingProfile p = PRESETS.get(part.trim());
+            if (p == null) {
+                throw new IllegalArgumentException("Unknown throttling profile '" + part.trim()
+                        + "' (known: " + PRESETS.keySet() + ")");
+            }
+            result = result.combine(p);
+        }
+        return new ThrottlingProfile(spec.trim().toLowerCase(Locale.ROOT),
+                result.latencyMs, result.downKbps, result.upKbps, result.cpuRate);
+    }
+
+    private ThrottlingProfile combine(ThrottlingProfile other) {
+        boolean otherHasNetwork = other.latencyMs > 0 || other.downKbps > 0 || other.upKbps > 0;
+        return new ThrottlingProfile(name,
+                otherHasNetwork ? other.latencyMs : latencyMs,
+                otherHasNetwork ? other.downKbps : downKbps,
+                otherHasNetwork ? other.upKbps : upKbps,
+                Math.max(cpuRate, other.cpuRate));
+    }
+
+    public boolean isNone() {
+        return latencyMs <= 0 && downKbps < 0 && upKbps < 0 && cpuRate <= 1;
+    }
+
+    /**
+     * Apply to the current page target. Call after the session starts and before navigating;
+     * the emulation stays on for that tab until the session ends.
+     */
+    public void apply(WebDriver driver) {
+        if (isNone()) return;
+        Cdp.execute(driver, "Network.enable");
+        Cdp.execute(driver, "Network.emulateNetworkConditions", Map.of(
+                "offline", false,
+                "latency", latencyMs,
+                // CDP wants bytes/s; -1 disables the limit
+                "downloadThroughput", downKbps < 0 ? -1 : downKbps * 1024 / 8,
+                "uploadThroughput", upKbps < 0 ? -1 : upKbps * 1024 / 8));
+        Cdp.execute(driver, "Emulation.setCPUThrottlingRate", Map.of("rate", cpuRate));
+    }
+}
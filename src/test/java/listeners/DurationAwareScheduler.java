@@ -0,0 +1,202 @@
+package listeners;
+
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.xml.XmlTest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Duration-aware scheduling: longest-processing-time (LPT) first.
+ *
+ * - Records how long each test method took (setUp + test + tearDown, i.e. browser start included),
+ *   per viewport (and throttling profile), into {@link DurationStore}.
+ * - Orders each &lt;test&gt;'s methods longest first, so with parallel workers the long
+ *   stragglers (e.g. ValidateOddsUpdateTest) start first and short ones fill the gaps.
+ * - With forks/CI shards, assigns each method to the currently least-loaded shard and keeps
+ *   only the ones that belong to this shard. The assignment is deterministic for a given
+ *   snapshot, so the shards only split cleanly if every fork plans from the SAME file:
+ *   point -Dscheduler.store at a committed or CI-cached copy. Forks never write to it while
+ *   sharding; each records to its own output. I log the snapshot digest with the plan, so
+ *   shards that disagree show up in the logs.
+ *
+ * Knobs:
+ * -Dshard.count=N -Dshard.index=i   run only shard i of N (0-based; anything else is rejected)
+ * -Dscheduler.store=...             snapshot to plan from (see DurationStore)
+ * -Dscheduler.out=...               where this run's durations go; default: back into the store
+ *                                   when not sharding, "&lt;store&gt;.shard-i" (only what ran) when sharding
+ * -Dscheduler.workers=N             only used to log the expected wall-clock
+ * -Dscheduler.defaultMs=60000       guess for methods without history (when the store is empty)
+ */
+public class DurationAwareScheduler implements IMethodInterceptor, IInvokedMethodListener, ISuiteListener {
+
+    private static final int SHARD_COUNT = Integer.getInteger("shard.count", 1);
+    private static final int SHARD_INDEX = Integer.getInteger("shard.index", 0);
+    private static final int WORKERS = Math.max(1, Integer.getInteger("scheduler.workers", 1));
+    private static final long DEFAULT_MS = Long.getLong("scheduler.defaultMs", 60_000L);
+
+    /** Shard loads carried across &lt;test&gt; tags so the whole suite stays balanced. */
+    private static final long[] SHARD_LOADS = new long[Math.max(1, SHARD_COUNT)];
+
+    private static final ThreadLocal<Long> START = new ThreadLocal<>();
+    private static final ThreadLocal<ITestNGMethod> PENDING = new ThreadLocal<>();
+
+    /** One planned item: what, how long I expect it to take, and the shard it lands on. */
+    record Assignment<T>(T item, long expectedMs, int shard) { }
+
+
+    /** A typo'd shard.index would otherwise run nothing and still pass. */
+    static void validateShard(int count, int index) {
+        if (count < 1) {
+            throw new IllegalArgumentException("-Dshard.count must be >= 1, got " + count);
+        }
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("-Dshard.index must be in [0, " + count + "), got " + index);
+        }
+    }
+
+    // ---------------------------------------------------------------- ordering
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        validateShard(SHARD_COUNT, SHARD_INDEX);
+        DurationStore store = DurationStore.get();
+        String viewport = variantOf(context.getCurrentXmlTest());
+        long unknown = store.max() > 0 ? store.max() : DEFAULT_MS;
+
+        List<Assignment<IMethodInstance>> plan;
+        synchronized (SHARD_LOADS) {
+            plan = assign(methods, mi -> {
+                long ms = store.lookup(keyOf(mi.getMethod(), viewport));
+                return ms < 0 ? unknown : ms;
+            }, mi -> mi.getMethod().getQualifiedName(), SHARD_LOADS);
+        }
+
+        List<IMethodInstance> mine = new ArrayList<>();
+        long total = 0;
+        long longest = 0;
+        for (Assignment<IMethodInstance> a : plan) {
+            if (a.shard() != SHARD_INDEX) continue;
+            mine.add(a.item());
+            total += a.expectedMs();
+            longest = Math.max(longest, a.expectedMs());
+        }
+
+        // LPT list scheduling bound: max(longest job, total / workers).
+        long expectedWall = Math.max(longest, total / WORKERS);
+        Reporter.log("[Scheduler] " + context.getName() + ": " + mine.size() + "/" + methods.size()
+                + " methods on shard " + SHARD_INDEX + "/" + SHARD_COUNT
+                + ", expected ~" + expectedWall / 1000 + " s with " + WORKERS + " worker(s)"
+                + " (store " + store.file() + ", digest " + store.digest() + ")", true);
+        return mine;
+    }
+
+    /**
+     * LPT over shards: longest first (name as tie-breaker, so every fork computes the same order),
+     * each item to the currently least-loaded shard (lowest index on ties).
+     * {@code loads} is updated in place, so it can carry over between calls.
+     */
+    static <T> List<Assignment<T>> assign(List<T> items, ToLongFunction<T> expectedMs,
+                                          Function<T, String> name, long[] loads) {
+        List<T> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparingLong(expectedMs).reversed().thenComparing(name));
+        List<Assignment<T>> out = new ArrayList<>();
+        for (T item : sorted) {
+            int shard = 0;
+            for (int i = 1; i < loads.length; i++) {
+                if (loads[i] < loads[shard]) shard = i;
+            }
+            long ms = expectedMs.applyAsLong(item);
+            loads[shard] += ms;
+            out.add(new Assignment<>(item, ms, shard));
+        }
+        return out;
+    }
+
+    // ---------------------------------------------------------------- recording
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        // Methods skipped because of a failed setUp still pass through here: nothing to time.
+        if (testResult.getStatus() == ITestResult.SKIP) return;
+        ITestNGMethod m = method.getTestMethod();
+        boolean beforeMethod = method.isConfigurationMethod() && m.isBeforeMethodConfiguration();
+        if (beforeMethod || (method.isTestMethod() && START.get() == null)) {
+            START.set(System.currentTimeMillis());
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        Long start = START.get();
+        if (start == null) return;
+
+        ITestNGMethod m = method.getTestMethod();
+        if (method.isConfigurationMethod() && m.isBeforeMethodConfiguration()
+                && testResult.getStatus() != ITestResult.SUCCESS) {
+            // setUp failed (e.g. no browser), that run says nothing about the test's real duration
+            START.remove();
+            PENDING.remove();
+        } else if (method.isTestMethod() && testResult.getStatus() == ITestResult.SKIP) {
+            // skipped (e.g. cached by ResultCache) after setUp ran: not a real duration either
+            START.remove();
+            PENDING.remove();
+        } else if (method.isTestMethod()) {
+            // Without an @AfterMethod I record right away; otherwise I wait for tearDown (driver quit).
+            if (m.getTestClass().getAfterTestMethods().length == 0) {
+                record(testResult, m, start);
+            } else {
+                PENDING.set(m);
+            }
+        } else if (method.isConfigurationMethod() && m.isAfterMethodConfiguration() && PENDING.get() != null) {
+            record(testResult, PENDING.get(), start);
+            PENDING.remove();
+        }
+    }
+
+    private static void record(ITestResult result, ITestNGMethod m, long start) {
+        String viewport = variantOf(result.getTestContext().getCurrentXmlTest());
+        DurationStore.get().record(keyOf(m, viewport), System.currentTimeMillis() - start);
+        START.remove();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        DurationStore.get().save(outputFile());
+    }
+
+    /** Never the shared snapshot while sharding: other forks may still be planning from it. */
+    private static Path outputFile() {
+        String out = System.getProperty("scheduler.out");
+        if (out != null && !out.isBlank()) return Paths.get(out);
+        Path store = DurationStore.get().file();
+        if (SHARD_COUNT == 1) return store;
+        return store.resolveSibling(store.getFileName() + ".shard-" + SHARD_INDEX);
+    }
+
+    /** "mobile", or "mobile/4g+cpu-4x" when the &lt;test&gt; throttles: each variant has its own history. */
+    private static String variantOf(XmlTest test) {
+        String viewport = test.getParameter("viewport");
+        String throttling = test.getParameter("throttling");
+        if (throttling == null || throttling.isBlank() || "none".equalsIgnoreCase(throttling)) return viewport;
+        return (viewport == null ? "desktop" : viewport) + "/" + throttling;
+    }
+
+    private static String keyOf(ITestNGMethod m, String viewport) {
+        return DurationStore.key(m.getRealClass().getName(), m.getMethodName(), viewport);
+    }
+}
@@ -0,0 +1,95 @@
+package listeners;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * LPT ordering and shard assignment of {@link DurationAwareScheduler}, on plain names instead of TestNG methods.
+ */
+public class DurationAwareSchedulerTest {
+
+    private static final Map<String, Long> EXPECTED = Map.of("a", 10L, "b", 8L, "c", 6L, "d", 4L, "e", 4L);
+
+    private static List<DurationAwareScheduler.Assignment<String>> assign(List<String> items, long[] loads) {
+        return DurationAwareScheduler.assign(items, EXPECTED::get, Function.identity(), loads);
+    }
+
+    @Test
+    public void longestFirstWithNameAsTieBreaker() {
+        List<String> order = new ArrayList<>();
+        for (DurationAwareScheduler.Assignment<String> a : assign(List.of("e", "c", "a", "d", "b"), new long[1])) {
+            order.add(a.item());
+        }
+        Assert.assertEquals(order, List.of("a", "b", "c", "d", "e"));
+    }
+
+    @Test
+    public void eachItemGoesToTheLeastLoadedShard() {
+        long[] loads = new long[2];
+        List<DurationAwareScheduler.Assignment<String>> plan = assign(List.of("a", "b", "c", "d", "e"), loads);
+
+        // a->0 (10), b->1 (8), c->1 (14), d->0 (14), e->0 on the tie (18)
+        List<Integer> shards = new ArrayList<>();
+        for (DurationAwareScheduler.Assignment<String> a : plan) shards.add(a.shard());
+        Assert.assertEquals(shards, List.of(0, 1, 1, 0, 0));
+        Assert.assertEquals(loads, new long[] {18, 14});
+    }
+
+    @Test
+    public void loadsCarryOverBetweenCalls() {
+        long[] loads = {0, 20};
+        List<DurationAwareScheduler.Assignment<String>> plan = assign(List.of("a", "b"), loads);
+
+        Assert.assertEquals(plan.get(0).shard(), 0);
+        Assert.assertEquals(plan.get(1).shard(), 0, "shard 0 is still lighter (10 < 20)");
+        Assert.assertEquals(loads, new long[] {18, 20});
+    }
+
+    @Test
+    public void everyForkComputesTheSamePlanWhateverTheInputOrder() {
+        List<String> items = new ArrayList<>(EXPECTED.keySet());
+        List<DurationAwareScheduler.Assignment<String>> reference = assign(items, new long[3]);
+        Random random = new Random(42);
+        for (int i = 0; i < 20; i++) {
+            Collections.shuffle(items, random);
+            Assert.assertEquals(assign(items, new long[3]), reference);
+        }
+    }
+
+    @Test
+    public void shardsPartitionTheMethods() {
+        int shards = 3;
+        List<DurationAwareScheduler.Assignment<String>> plan = assign(new ArrayList<>(EXPECTED.keySet()), new long[shards]);
+        Set<String> seen = new HashSet<>();
+        for (int index = 0; index < shards; index++) {
+            for (DurationAwareScheduler.Assignment<String> a : plan) {
+                if (a.shard() == index) {
+                    Assert.assertTrue(seen.add(a.item()), a.item() + " assigned to two shards");
+                }
+            }
+        }
+        Assert.assertEquals(seen, EXPECTED.keySet());
+    }
+
+    @Test
+    public void validShardSettingsAreAccepted() {
+        DurationAwareScheduler.validateShard(1, 0);
+        DurationAwareScheduler.validateShard(4, 3);
+    }
+
+    @Test
+    public void outOfRangeShardSettingsAreRejected() {
+        Assert.expectThrows(IllegalArgumentException.class, () -> DurationAwareScheduler.validateShard(2, 2));
+        Assert.expectThrows(IllegalArgumentException.class, () -> DurationAwareScheduler.validateShard(2, -1));
+        Assert.expectThrows(IllegalArgumentException.class, () -> DurationAwareScheduler.validateShard(0, 0));
+    }
+}
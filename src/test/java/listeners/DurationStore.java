@@ -0,0 +1,137 @@
+package listeners;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Properties;
+
+/**
+ * Tiny local store of historical per-method durations.
+ * Key: "<class>#<method>[<viewport>]" (viewport may carry a "/<throttling>" suffix), value: smoothed duration in ms.
+ *
+ * It has two sides on purpose:
+ * - history: read once from -Dscheduler.store and never changed during the run. Planning (order, shard
+ *   assignment) only looks at this snapshot, so every fork/shard given the same file computes the same plan.
+ * - recorded: this run's measurements blended with history, written by {@link #save(Path)}.
+ *
+ * I keep it as a plain properties file (no DB, no JSON lib) so it can be committed, cached
+ * between CI runs or simply deleted to start over.
+ *
+ * Knobs:
+ * -Dscheduler.store=.test-durations.properties   snapshot to plan from (read-only during the run)
+ */
+public final class DurationStore {
+
+    /** Weight of the newest sample; the rest comes from history. */
+    private static final double ALPHA = 0.5;
+
+    private static final DurationStore INSTANCE = new DurationStore(
+            Paths.get(System.getProperty("scheduler.store", ".test-durations.properties")));
+
+    private final Path file;
+    private final String digest;
+    private final Properties history = new Properties();
+    private final Properties recorded = new Properties();
+
+    DurationStore(Path file) {
+        this.file = file;
+        byte[] bytes = new byte[0];
+        if (Files.exists(file)) {
+            try {
+                bytes = Files.readAllBytes(file);
+                history.load(new StringReader(new String(bytes, StandardCharsets.UTF_8)));
+            } catch (IOException | IllegalArgumentException ignored) {
+                // a broken store just means "no history"
+                history.clear();
+            }
+        }
+        this.digest = bytes.length == 0 ? "none" : sha256(bytes).substring(0, 12);
+    }
+
+    public static DurationStore get() {
+        return INSTANCE;
+    }
+
+    public static String key(String className, String methodName, String viewport) {
+        return className + "#" + methodName + "[" + (viewport == null ? "desktop" : viewport) + "]";
+    }
+
+    /** The snapshot file I plan from. */
+    public Path file() {
+        return file;
+    }
+
+    /** Short SHA-256 of the snapshot as read ("none" if empty/missing); shards that log different ones planned differently. */
+    public String digest() {
+        return digest;
+    }
+
+    /** Historical duration in ms, or -1 if the snapshot has never seen this method. */
+    public synchronized long lookup(String key) {
+        return parse(history.getProperty(key));
+    }
+
+    /** Largest known duration – my pessimistic guess for methods without history. */
+    public synchronized long max() {
+        long max = -1;
+        for (String k : history.stringPropertyNames()) {
+            max = Math.max(max, lookup(k));
+        }
+        return max;
+    }
+
+    /** Blend a new measurement into the history (exponential smoothing); the snapshot itself is untouched. */
+    public synchronized void record(String key, long millis) {
+        long previous = parse(recorded.getProperty(key));
+        if (previous < 0) previous = lookup(key);
+        long blended = previous < 0 ? millis : Math.round(ALPHA * millis + (1 - ALPHA) * previous);
+        recorded.setProperty(key, Long.toString(blended));
+    }
+
+    /**
+     * Persist this run's durations, if any.
+     * Written back over the snapshot, the rest of the history is kept. Any other file gets only what
+     * this run measured, so shard outputs can simply be appended to the snapshot afterwards.
+     */
+    public synchronized void save(Path out) {
+        if (recorded.isEmpty()) return;
+        Properties content = new Properties();
+        if (out.toAbsolutePath().normalize().equals(file.toAbsolutePath().normalize())) {
+            content.putAll(history);
+        }
+        content.putAll(recorded);
+        try {
+            Path parent = out.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+            try (Writer w = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+                content.store(w, "Historical test durations (ms) used by DurationAwareScheduler");
+            }
+        } catch (IOException ignored) {
+            // history is an optimization only; never fail the suite because of it
+        }
+    }
+
+    private static long parse(String v) {
+        if (v == null) return -1;
+        try {
+            return Long.parseLong(v.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
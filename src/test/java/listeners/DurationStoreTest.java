@@ -0,0 +1,86 @@
+package listeners;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * The planning snapshot stays fixed during a run; recordings only go to the output.
+ */
+public class DurationStoreTest {
+
+    @Test
+    public void recordingDoesNotChangeWhatIPlanFrom() throws IOException {
+        Path dir = Files.createTempDirectory("durations");
+        Path store = write(dir.resolve("store.properties"), "A#t[desktop]=1000\n");
+
+        DurationStore ds = new DurationStore(store);
+        ds.record(DurationStore.key("A", "t", null), 3000);
+
+        Assert.assertEquals(ds.lookup("A#t[desktop]"), 1000);
+        Assert.assertEquals(ds.max(), 1000);
+    }
+
+    @Test
+    public void separateOutputHoldsOnlyWhatThisRunMeasured() throws IOException {
+        Path dir = Files.createTempDirectory("durations");
+        Path store = write(dir.resolve("store.properties"), "A#t[desktop]=1000\nB#t[desktop]=500\n");
+        String before = Files.readString(store);
+
+        DurationStore ds = new DurationStore(store);
+        ds.record("A#t[desktop]", 3000);
+        ds.record("C#t[mobile]", 700);
+        Path out = dir.resolve("store.properties.shard-1");
+        ds.save(out);
+
+        Properties written = read(out);
+        Assert.assertEquals(written.size(), 2);
+        Assert.assertEquals(written.getProperty("A#t[desktop]"), "2000", "blended with history");
+        Assert.assertEquals(written.getProperty("C#t[mobile]"), "700");
+        Assert.assertEquals(Files.readString(store), before, "the snapshot is never rewritten");
+    }
+
+    @Test
+    public void savingBackIntoTheStoreKeepsTheRestOfTheHistory() throws IOException {
+        Path dir = Files.createTempDirectory("durations");
+        Path store = write(dir.resolve("store.properties"), "A#t[desktop]=1000\nB#t[desktop]=500\n");
+
+        DurationStore ds = new DurationStore(store);
+        ds.record("A#t[desktop]", 3000);
+        ds.save(store);
+
+        Properties written = read(store);
+        Assert.assertEquals(written.getProperty("A#t[desktop]"), "2000");
+        Assert.assertEquals(written.getProperty("B#t[desktop]"), "500");
+    }
+
+    @Test
+    public void sameFileSameDigest() throws IOException {
+        Path dir = Files.createTempDirectory("durations");
+        Path one = write(dir.resolve("one.properties"), "A#t[desktop]=1000\n");
+        Path two = write(dir.resolve("two.properties"), "A#t[desktop]=1000\n");
+        Path other = write(dir.resolve("other.properties"), "A#t[desktop]=1001\n");
+
+        Assert.assertEquals(new DurationStore(one).digest(), new DurationStore(two).digest());
+        Assert.assertNotEquals(new DurationStore(one).digest(), new DurationStore(other).digest());
+        Assert.assertEquals(new DurationStore(dir.resolve("missing.properties")).digest(), "none");
+    }
+
+    private static Path write(Path file, String content) throws IOException {
+        return Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+
+    private static Properties read(Path file) throws IOException {
+        Properties p = new Properties();
+        try (Reader r = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            p.load(r);
+        }
+        return p;
+    }
+}
@@ -0,0 +1,216 @@
+package listeners;
+
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.SkipException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Incremental runs: skip tests whose inputs didn't change since their last PASS.
+ *
+ * Fingerprint of a test = SHA-256 over
+ * - the compiled pages/ and utils/ classes (everything the tests drive),
+ * - the test class and its superclasses up to Object (BaseTest setup counts),
+ * - the served fixture/archive (-Dfixture.path, file or directory),
+ * - the &lt;test&gt; parameters (viewport, throttling...) plus -Dsite.lang and -Ddriver.backend.
+ *
+ * Only runs against a fixture can be cached: against the live site the data itself is an input that
+ * changes all the time, so without -Dfixture.path nothing is skipped.
+ *
+ * Knobs:
+ * -Dresult.cache=true             turn it on
+ * -Dresult.cache.force=true       run everything (results still refresh the cache)
+ * -Dresult.cache.store=.test-results-cache.properties
+ */
+public class ResultCache implements ITestListener, ISuiteListener, IInvokedMethodListener {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("result.cache", "false"));
+    private static final boolean FORCE = Boolean.parseBoolean(System.getProperty("result.cache.force", "false"));
+    private static final String FIXTURE = System.getProperty("fixture.path");
+    private static final Path STORE = Paths.get(System.getProperty("result.cache.store", ".test-results-cache.properties"));
+
+    private static final Properties PASSED = new Properties();
+    private static boolean loaded;
+    private static volatile boolean registered;
+
+    /** Hash of pages/ + utils/ + fixture; the same for every test of the JVM, so computed once. */
+    private static String sharedInputs;
+
+    /**
+     * True if this test would be skipped as cached: the test bootstrap asks so it doesn't start a browser.
+     * The skip itself happens in {@link #beforeInvocation}, for that test method only – a SkipException
+     * from @BeforeMethod would fail the configuration and skip every later method of the class too.
+     * Always false unless the listener is registered (e.g. a bare -Dtest=... run without the suite file).
+     */
+    public static boolean isCached(Class<?> testClass, String method, Map<String, String> parameters) {
+        if (!ENABLED || FORCE || FIXTURE == null || !registered) return false;
+        String cached;
+        synchronized (PASSED) {
+            load();
+            cached = PASSED.getProperty(key(testClass, method, parameters));
+        }
+        return cached != null && cached.equals(fingerprint(testClass, parameters));
+    }
+
+    // ---------------------------------------------------------------- listener
+
+    @Override
+    public void onStart(ISuite suite) {
+        registered = true;
+    }
+
+    /** Skip a cached test method (reported as SKIP with a "cached" reason); its siblings still run. */
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) return;
+        Class<?> cls = testResult.getTestClass().getRealClass();
+        String name = method.getTestMethod().getMethodName();
+        Map<String, String> params = testResult.getTestContext().getCurrentXmlTest().getAllParameters();
+        if (isCached(cls, name, params)) {
+            Reporter.log("[Cache] " + key(cls, name, params) + " inputs unchanged since last PASS -> cached", true);
+            throw new SkipException("cached: passed before with identical inputs");
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        if (!ENABLED || FIXTURE == null) return;
+        Class<?> cls = result.getTestClass().getRealClass();
+        Map<String, String> params = result.getTestContext().getCurrentXmlTest().getAllParameters();
+        String key = key(cls, result.getMethod().getMethodName(), params);
+        String fingerprint = fingerprint(cls, params);
+        synchronized (PASSED) {
+            load();
+            PASSED.setProperty(key, fingerprint);
+        }
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        if (!ENABLED) return;
+        Class<?> cls = result.getTestClass().getRealClass();
+        Map<String, String> params = result.getTestContext().getCurrentXmlTest().getAllParameters();
+        synchronized (PASSED) {
+            load();
+            PASSED.remove(key(cls, result.getMethod().getMethodName(), params));
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!ENABLED) return;
+        synchronized (PASSED) {
+            if (!loaded) return;
+            try (Writer w = Files.newBufferedWriter(STORE, StandardCharsets.UTF_8)) {
+                PASSED.store(w, "Fingerprints of the last PASS per test (ResultCache)");
+            } catch (IOException ignored) {
+                // cache is an optimization only
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------- fingerprinting
+
+    private static void load() {
+        if (loaded) return;
+        loaded = true;
+        if (!Files.exists(STORE)) return;
+        try (Reader r = Files.newBufferedReader(STORE, StandardCharsets.UTF_8)) {
+            PASSED.load(r);
+        } catch (IOException | IllegalArgumentException ignored) {
+            // broken cache = empty cache
+        }
+    }
+
+    private static String key(Class<?> testClass, String method, Map<String, String> parameters) {
+        return testClass.getName() + "#" + method + new TreeMap<>(parameters);
+    }
+
+    private static String fingerprint(Class<?> testClass, Map<String, String> parameters) {
+        MessageDigest md = sha256();
+        md.update(sharedInputs().getBytes(StandardCharsets.UTF_8));
+        for (Class<?> c = testClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            md.update(classBytes(c));
+        }
+        Map<String, String> inputs = new TreeMap<>(parameters);
+        inputs.put("site.lang", System.getProperty("site.lang", "en"));
+        inputs.put("driver.backend", System.getProperty("driver.backend", "local"));
+        md.update(inputs.toString().getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(md.digest());
+    }
+
+    private static synchronized String sharedInputs() {
+        if (sharedInputs != null) return sharedInputs;
+        MessageDigest md = sha256();
+        try {
+            // target/classes (or the jar) that holds the page objects and utils
+            Path classes = Paths.get(pages.BasePage.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            if (Files.isDirectory(classes)) {
+                hashTree(md, classes.resolve("pages"));
+                hashTree(md, classes.resolve("utils"));
+            } else {
+                hashTree(md, classes);
+            }
+            if (FIXTURE != null) {
+                hashTree(md, Paths.get(FIXTURE));
+            }
+        } catch (IOException | URISyntaxException e) {
+            // can't fingerprint -> make it unique so nothing is ever skipped by mistake
+            md.update(Long.toString(System.nanoTime()).getBytes(StandardCharsets.UTF_8));
+        }
+        sharedInputs = HexFormat.of().formatHex(md.digest());
+        return sharedInputs;
+    }
+
+    /** Hash relative paths + contents of a file or directory tree, in a stable order. */
+    private static void hashTree(MessageDigest md, Path root) throws IOException {
+        if (!Files.exists(root)) return;
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        for (Path f : files) {
+            md.update(root.relativize(f).toString().getBytes(StandardCharsets.UTF_8));
+            md.update(Files.readAllBytes(f));
+        }
+    }
+
+    private static byte[] classBytes(Class<?> c) {
+        try (InputStream in = c.getResourceAsStream(c.getSimpleName() + ".class")) {
+            return in == null ? c.getName().getBytes(StandardCharsets.UTF_8) : in.readAllBytes();
+        } catch (IOException e) {
+            return Long.toString(System.nanoTime()).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
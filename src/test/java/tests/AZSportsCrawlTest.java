@@ -0,0 +1,51 @@
+package tests;
+
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.Test;
+import pages.AZSportsCrawler;
+import pages.AZSportsCrawler.SportCheck;
+import pages.LiveBettingPage;
+import pages.Pages;
+import utils.DriverFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Crawler mode for A–Z Sports.
+ * I enumerate every sport in the A–Z panel once, then validate all sport pages
+ * concurrently in a few tabs of the same browser (-Dcrawler.tabs, default 4).
+ * Per-sport load time and pass/fail are logged; the test fails if any sport page didn't load.
+ */
+public class AZSportsCrawlTest extends BaseTest {
+
+    @Test
+    public void testCrawlAllAZSports() {
+        DriverFactory.getDriver().get("https://sports.bwin.com/en/sports");
+        Pages.get(DriverFactory.getDriver(), LiveBettingPage.class).acceptCookiesIfPresent();
+
+        AZSportsCrawler crawler = Pages.get(DriverFactory.getDriver(), AZSportsCrawler.class);
+        Map<String, String> sports = crawler.enumerateSports();
+        Reporter.log("[A-Z Crawl] Found " + sports.size() + " sports: " + sports, true);
+        Assert.assertFalse(sports.isEmpty(), "No sports found in the A-Z panel.");
+
+        long t0 = System.currentTimeMillis();
+        List<SportCheck> results = crawler.crawl(sports);
+        long total = System.currentTimeMillis() - t0;
+
+        for (SportCheck r : results) {
+            Reporter.log(String.format("[A-Z Crawl] %-24s %-24s %6d ms  %s",
+                    r.name(), r.slug(), r.loadMillis(), r.passed() ? "PASS" : "FAIL"), true);
+        }
+        Reporter.log("[A-Z Crawl] " + results.size() + " sports in " + total + " ms", true);
+
+        List<String> failed = results.stream()
+                .filter(r -> !r.passed())
+                .map(SportCheck::name)
+                .collect(Collectors.toList());
+        Assert.assertTrue(failed.isEmpty(), "Sport pages not recognized as loaded: " + failed);
+        Reporter.log("[A-Z Crawl] PASS: all sport pages loaded.", true);
+    }
+}
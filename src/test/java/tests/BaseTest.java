@@ -3,38 +3,63 @@ package tests;
 import org.openqa.selenium.Dimension;
 import org.testng.Reporter;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Optional;
 import org.testng.annotations.Parameters;
 import org.testng.ITestResult;
 
 import java.lang.reflect.Method;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+import listeners.ResultCache;
+import pages.Pages;
 import utils.DriverFactory;
+import utils.InteractionProbe;
+import utils.ThrottlingProfile;
 
 /**
  * Common test bootstrap/teardown.
  * - Initializes/quits the WebDriver once per test method.
  * - Accepts a TestNG parameter "viewport" (desktop/mobile) to run the same tests
  *   against different window sizes.
+ * - Accepts a TestNG parameter "throttling" (e.g. "4g+cpu-4x", see ThrottlingProfile)
+ *   to emulate mobile network/CPU, and reports test timings per profile.
  * - Navigates to the Live Betting URL before each test.
+ * - Skips tests whose inputs are unchanged since their last PASS (opt-in, see ResultCache).
  *
  * I keep the window sizing here (instead of inside each test) so all tests
  * start from a consistent viewport and page state.
  */
 public class BaseTest {
 
+    /** "profile viewport test ms status" lines, reported per profile at the end of the suite. */
+    private static final Queue<String> TIMINGS = new ConcurrentLinkedQueue<>();
+
     /** Exposed to child tests so they can branch assertions by viewport. */
     protected String viewport = "desktop";
 
+    /** Throttling profile of this run ("none" unless the &lt;test&gt; sets one). */
+    protected ThrottlingProfile throttling = ThrottlingProfile.parse("none");
+
     /** Entry point URL used across the suite. */
     protected static final String LIVE_URL = "https://sports.bwin.com/en/sports/live/betting";
 
     @BeforeMethod
-    @Parameters({"viewport"})
-    public void setUp(Method m, @Optional("desktop") String viewport) {
+    @Parameters({"viewport", "throttling"})
+    public void setUp(Method m, @Optional("desktop") String viewport, @Optional("none") String throttling) {
         this.viewport = viewport;
-        Reporter.log("=== START: " + m.getName() + " [viewport=" + viewport + "] ===", true);
+        this.throttling = ThrottlingProfile.parse(throttling);
+        InteractionProbe.setContext(this.throttling.isNone() ? viewport : viewport + "/" + this.throttling.name());
+        Reporter.log("=== START: " + m.getName() + " [viewport=" + viewport
+                + ", throttling=" + this.throttling.name() + "] ===", true);
+
+        // Incremental runs: no browser for a test ResultCache is about to skip as cached.
+        if (ResultCache.isCached(getClass(), m.getName(),
+                Reporter.getCurrentTestResult().getTestContext().getCurrentXmlTest().getAllParameters())) {
+            return;
+        }
 
         // Start a fresh driver (incognito etc. is configured in DriverFactory)
         DriverFactory.initDriver();
@@ -48,6 +73,9 @@ public class BaseTest {
             DriverFactory.getDriver().manage().window().setSize(new Dimension(1366, 900));
         }
 
+        // Network/CPU emulation must be on before the first navigation.
+        this.throttling.apply(DriverFactory.getDriver());
+
         // Navigate to Live Betting entry page.
         DriverFactory.getDriver().get(LIVE_URL);
     }
@@ -61,9 +89,28 @@ public class BaseTest {
             case ITestResult.SKIP -> "SKIP";
             default -> "UNKNOWN";
         };
-        Reporter.log("=== END: " + m.getName() + " => " + status + " ===", true);
+        long millis = result.getEndMillis() - result.getStartMillis();
+        Reporter.log("=== END: " + m.getName() + " => " + status + " in " + millis + " ms ===", true);
+        TIMINGS.add(String.format("%-10s %-8s %-40s %7d ms  %s",
+                throttling.name(), viewport, getClass().getSimpleName() + "." + m.getName(), millis, status));
 
         // Always quit to avoid driver/browser leaks between tests
+        Pages.release(DriverFactory.getDriver());
         DriverFactory.quitDriver();
     }
+
+    /** Test timings grouped by throttling profile (the suite runs each profile as its own &lt;test&gt;). */
+    @AfterSuite(alwaysRun = true)
+    public void reportTimings() {
+        TIMINGS.stream().sorted().forEach(line -> Reporter.log("[Timing] " + line, true));
+    }
+
+    /** Interaction latency percentiles (all runs so far, per click type and viewport) when the probe is on. */
+    @AfterSuite(alwaysRun = true)
+    public void reportInteractions() {
+        if (!InteractionProbe.isEnabled()) return;
+        for (String line : InteractionProbe.summary()) {
+            Reporter.log("[Interactions] " + line, true);
+        }
+    }
 }
@@ -0,0 +1,81 @@
+package tests;
+
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.Test;
+import pages.BetslipPanel;
+import pages.BetslipState;
+import pages.LiveBettingPage;
+import pages.Pages;
+import utils.DriverFactory;
+import utils.Stats;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark: build an accumulator by adding K picks (one per event) from the live grid.
+ * For every add I measure click -> Bet Slip counter update (polling only the counter), then the cost
+ * of one full betslip snapshot, so I can see how the betslip scales as selections accumulate.
+ *
+ * Knobs: -Dbench.picks=5 (K), -Dbench.addTimeoutMs=10000 (give up on a single add after this)
+ */
+public class BetslipMultiPickBenchmarkTest extends BaseTest {
+
+    @Test
+    public void testMultiPickAddLatency() {
+        final int picks = Integer.getInteger("bench.picks", 5);
+        final long addTimeoutMs = Long.getLong("bench.addTimeoutMs", 10_000L);
+
+        LiveBettingPage live = Pages.get(DriverFactory.getDriver(), LiveBettingPage.class);
+        BetslipPanel betslip = Pages.get(DriverFactory.getDriver(), BetslipPanel.class);
+        live.acceptCookiesIfPresent();
+
+        List<Long> addLatencies = new ArrayList<>();
+        List<Long> snapshotCosts = new ArrayList<>();
+
+        for (int i = 0; i < picks; i++) {
+            int before = countSelections(betslip);
+
+            long clicked = live.selectOutcomeOfEvent(i);
+
+            // Poll the cheap counter (one script call) until it moves, so the latency isn't bounded
+            // by the snapshot cost, which itself grows with the number of selections.
+            long latencyMs = -1;
+            while ((System.nanoTime() - clicked) / 1_000_000 < addTimeoutMs) {
+                if (countSelections(betslip) > before) {
+                    latencyMs = (System.nanoTime() - clicked) / 1_000_000;
+                    break;
+                }
+                try { Thread.sleep(50); } catch (InterruptedException ignored) {}
+            }
+
+            // Then one full snapshot: its cost at N selections is the scaling signal.
+            long s0 = System.nanoTime();
+            BetslipState state = betslip.snapshot();
+            long snapshotMs = (System.nanoTime() - s0) / 1_000_000;
+            snapshotCosts.add(snapshotMs);
+
+            if (latencyMs >= 0) {
+                addLatencies.add(latencyMs);
+            }
+            Reporter.log("[Bench][Betslip] add #" + (i + 1) + ": "
+                    + (latencyMs >= 0 ? latencyMs + " ms" : "no update within " + addTimeoutMs + " ms")
+                    + ", selections=" + state.selectionCount()
+                    + ", snapshot=" + snapshotMs + " ms", true);
+        }
+
+        BetslipState last = betslip.snapshot();
+        Reporter.log("[Bench][Betslip] final state: " + last, true);
+        Reporter.log("[Bench][Betslip] click->update latency (ms): " + Stats.summary(addLatencies), true);
+        Reporter.log("[Bench][Betslip] snapshot cost (ms): " + Stats.summary(snapshotCosts), true);
+
+        Assert.assertFalse(addLatencies.isEmpty(), "No pick was registered in the Bet Slip.");
+    }
+
+    /** "Selections (N)" via the cheap counter; full snapshot only if this layout shows no counter. */
+    private static int countSelections(BetslipPanel betslip) {
+        int n = betslip.selectionCounter();
+        return n >= 0 ? n : betslip.snapshot().selectionCount();
+    }
+}
@@ -5,6 +5,7 @@ import org.testng.Reporter;
 import org.testng.annotations.Test;
 import pages.AZSportsPage;
 import pages.LiveBettingPage;
+import pages.Pages;
 import utils.DriverFactory;
 
 /**
@@ -21,9 +22,9 @@ public class CheckSportSortingTest extends BaseTest {
         DriverFactory.getDriver().get("https://sports.bwin.com/en/sports");
 
         // Handle the cookie banner once to avoid click interception later.
-        new LiveBettingPage(DriverFactory.getDriver()).acceptCookiesIfPresent();
+        Pages.get(DriverFactory.getDriver(), LiveBettingPage.class).acceptCookiesIfPresent();
 
-        AZSportsPage az = new AZSportsPage(DriverFactory.getDriver());
+        AZSportsPage az = Pages.get(DriverFactory.getDriver(), AZSportsPage.class);
 
         // Open the A–Z panel only if it's not already visible.
         az.openAZIfNeeded();
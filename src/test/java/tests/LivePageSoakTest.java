@@ -0,0 +1,56 @@
+package tests;
+
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.Test;
+import pages.LiveBettingPage;
+import pages.Pages;
+import utils.DriverFactory;
+import utils.SoakMonitor;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * Soak: keep one Live Betting session open (like operators do for hours) and watch
+ * JS heap, DOM nodes, listeners, layout/recalc counts and Chrome RSS/CPU over time.
+ *
+ * Knobs:
+ * -Dsoak.minutes=30        how long to keep the page open
+ * -Dsoak.intervalSec=30    sampling interval
+ * -Dsoak.out=target/soak   where the CSV goes
+ * -Dsoak.failOnLeak=false  fail (instead of only logging) when a leak suspect shows up
+ */
+public class LivePageSoakTest extends BaseTest {
+
+    @Test
+    public void testLivePageSoak() {
+        final Duration duration = Duration.ofMinutes(Long.getLong("soak.minutes", 30L));
+        final Duration interval = Duration.ofSeconds(Long.getLong("soak.intervalSec", 30L));
+        final Path csv = Paths.get(System.getProperty("soak.out", "target/soak"),
+                "live-soak-" + viewport + "-" + System.currentTimeMillis() + ".csv");
+
+        Pages.get(DriverFactory.getDriver(), LiveBettingPage.class).acceptCookiesIfPresent();
+        Reporter.log("[Soak] Sampling every " + interval.getSeconds() + " s for "
+                + duration.toMinutes() + " min -> " + csv, true);
+
+        SoakMonitor.Report report = new SoakMonitor(DriverFactory.getDriver(), duration, interval, csv)
+                .run(s -> Reporter.log(String.format(
+                        "[Soak] t=%ds heap=%.1fMB nodes=%d listeners=%d layouts=%d recalcs=%d rss=%dMB cpu=%.1f%%",
+                        s.elapsedMs() / 1000, s.jsHeapUsedMb(), s.domNodes(), s.eventListeners(),
+                        s.layoutCount(), s.recalcStyleCount(), s.rssMb(), s.cpuPct()), true));
+
+        Reporter.log("[Soak] " + report.samples().size() + " samples, trend Z: " + report.trendZ(), true);
+        Reporter.log(String.format("[Soak] Monitor overhead: %.3f%% of wall time", report.overheadPct()), true);
+
+        if (report.leakSuspects().isEmpty()) {
+            Reporter.log("[Soak] PASS: no monotonic growth detected.", true);
+            return;
+        }
+        Reporter.log("[Soak] Leak suspects (monotonic growth): " + report.leakSuspects(), true);
+        if (Boolean.parseBoolean(System.getProperty("soak.failOnLeak", "false"))) {
+            Assert.fail("Leak suspects on the live page: " + report.leakSuspects() + " (see " + report.csv() + ")");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package tests;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.Reporter;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+import pages.BetslipPanel;
+import pages.LiveBettingPage;
+import pages.Pages;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+
+/**
+ * Cost of getting page objects inside a polling tick (like the AddPickToBetslipTest wait lambda):
+ * "new" page objects per tick vs the per-session {@link Pages} registry.
+ *
+ * Pure JVM work: page construction never talks to the browser, so I use a stub driver instead of
+ * BaseTest's real session. The numbers are only reported – allocation and timing under JIT/TLAB noise
+ * are too jumpy for a pass/fail comparison.
+ *
+ * Knob: -Dbench.ticks=2000
+ */
+public class PageObjectTickCostTest {
+
+    /** Fails loudly if anything does reach the driver, which would make this no longer a JVM-only benchmark. */
+    private final WebDriver driver = (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(),
+            new Class<?>[] {WebDriver.class}, (proxy, method, args) -> switch (method.getName()) {
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> "StubDriver";
+                default -> throw new UnsupportedOperationException("stub driver: " + method.getName());
+            });
+
+    @Test
+    public void testPageObjectTickCost() {
+        final int ticks = Integer.getInteger("bench.ticks", 2000);
+
+        long[] fresh = measureTicks(ticks, () -> {
+            new BetslipPanel(driver);
+            new LiveBettingPage(driver);
+        });
+        long[] cached = measureTicks(ticks, () -> {
+            Pages.get(driver, BetslipPanel.class);
+            Pages.get(driver, LiveBettingPage.class);
+        });
+
+        Reporter.log("[Bench][PageObjects] new per tick:      " + fresh[0] + " ns, " + fresh[1] + " bytes", true);
+        Reporter.log("[Bench][PageObjects] registry per tick: " + cached[0] + " ns, " + cached[1] + " bytes", true);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        Pages.release(driver);
+    }
+
+    /** Average {ns, allocated bytes} per tick on this thread (bytes = -1 if the JVM can't tell). */
+    private static long[] measureTicks(int ticks, Runnable tick) {
+        for (int i = 0; i < ticks / 10; i++) tick.run(); // warm-up
+
+        java.lang.management.ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean alloc = mx instanceof com.sun.management.ThreadMXBean m ? m : null;
+        long tid = Thread.currentThread().getId();
+
+        long bytes0 = alloc != null ? alloc.getThreadAllocatedBytes(tid) : 0;
+        long t0 = System.nanoTime();
+        for (int i = 0; i < ticks; i++) tick.run();
+        long ns = (System.nanoTime() - t0) / ticks;
+        long bytes = alloc != null ? (alloc.getThreadAllocatedBytes(tid) - bytes0) / ticks : -1;
+        return new long[] {ns, bytes};
+    }
+}
@@ -6,6 +6,7 @@ import org.testng.Reporter;
 import org.testng.annotations.Test;
 import pages.BetslipPanel;
 import pages.LiveBettingPage;
+import pages.Pages;
 import utils.DriverFactory;
 
 /**
@@ -17,8 +18,8 @@ public class ResponsiveDesignTest extends BaseTest {
 
     @Test
     public void testResponsiveBetslipBehavior() {
-        LiveBettingPage live = new LiveBettingPage(DriverFactory.getDriver());
-        BetslipPanel betslip = new BetslipPanel(DriverFactory.getDriver());
+        LiveBettingPage live = Pages.get(DriverFactory.getDriver(), LiveBettingPage.class);
+        BetslipPanel betslip = Pages.get(DriverFactory.getDriver(), BetslipPanel.class);
 
         // Desktop size
         DriverFactory.getDriver().manage().window().setSize(new Dimension(1366, 900));
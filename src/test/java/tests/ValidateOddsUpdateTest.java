@@ -5,8 +5,11 @@ import org.testng.Reporter;
 import org.testng.SkipException;
 import org.testng.annotations.Test;
 import pages.LiveBettingPage;
+import pages.Pages;
+import utils.DomChurnProfiler;
 import utils.DriverFactory;
 
+import java.nio.file.Paths;
 import java.time.Duration;
 
 /**
@@ -15,6 +18,9 @@ import java.time.Duration;
  * - Observe for a change within a time window (light polling)
  *
  * I explicitly skip halftime markets because odds may stay flat for longer intervals.
+ *
+ * With -Dprofile.churn=true I also profile DOM churn of the odds grid during the change window
+ * (top nodes logged, heatmap CSV under -Dchurn.out, default target/churn).
  */
 public class ValidateOddsUpdateTest extends BaseTest {
 
@@ -25,7 +31,7 @@ public class ValidateOddsUpdateTest extends BaseTest {
         final Duration FALLBACK_TIMEOUT = Duration.ofSeconds(8);
         final Duration CHANGE_WINDOW    = Duration.ofSeconds(60);
 
-        LiveBettingPage live = new LiveBettingPage(DriverFactory.getDriver());
+        LiveBettingPage live = Pages.get(DriverFactory.getDriver(), LiveBettingPage.class);
         live.acceptCookiesIfPresent(); // keep click interceptions away
 
         // 1) Establish baseline from a NON-halftime market (preferred path).
@@ -40,7 +46,10 @@ public class ValidateOddsUpdateTest extends BaseTest {
         Reporter.log("[OddsUpdate] Initial (non-halftime) odds: " + initial, true);
 
         // 3) Wait for a change within the window (light polling every ~500 ms inside the page object).
+        final boolean profileChurn = Boolean.parseBoolean(System.getProperty("profile.churn", "false"));
+        if (profileChurn) DomChurnProfiler.start(DriverFactory.getDriver());
         boolean changed = live.waitForNonHalftimeOddsChange(CHANGE_WINDOW);
+        if (profileChurn) reportChurn(DomChurnProfiler.stop(DriverFactory.getDriver()));
         String current = live.getFirstNonHalftimeOddsTextQuick();
         Reporter.log("[OddsUpdate] Observed odds after wait (non-halftime): " + current, true);
 
@@ -62,4 +71,17 @@ public class ValidateOddsUpdateTest extends BaseTest {
         Reporter.log("[OddsUpdate] CHANGED within window (non-halftime): " + initial + " → " + current, true);
         Assert.assertTrue(true);
     }
+
+    /** Ranked churn summary + heatmap CSV for the odds grid. */
+    private void reportChurn(DomChurnProfiler.Report churn) {
+        Reporter.log(String.format("[Churn] %d grid mutations in %d ms (observer cost %.1f ms), %d nodes/markets touched",
+                churn.records(), churn.windowMs(), churn.observerMs(), churn.rows().size()), true);
+        for (String line : churn.top(10)) {
+            Reporter.log("[Churn] " + line, true);
+        }
+        String csv = System.getProperty("churn.out", "target/churn") + "/odds-grid-" + viewport + "-"
+                + System.currentTimeMillis() + ".csv";
+        churn.writeCsv(Paths.get(csv));
+        Reporter.log("[Churn] Heatmap data: " + csv, true);
+    }
 }
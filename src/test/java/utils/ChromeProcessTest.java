@@ -0,0 +1,31 @@
+package utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Which process is "the browser of this session": matched by --user-data-dir, children excluded.
+ */
+public class ChromeProcessTest {
+
+    private static final String DIR = "/tmp/.org.chromium.Chromium.abc123";
+
+    @Test
+    public void browserOnTheSessionProfileMatches() {
+        String[] args = {"--remote-debugging-port=0", "--incognito", "--user-data-dir=" + DIR, "data:,"};
+        Assert.assertTrue(ChromeProcess.isBrowserOf(args, DIR));
+    }
+
+    @Test
+    public void childProcessesOfThatBrowserDoNotMatch() {
+        String[] renderer = {"--type=renderer", "--user-data-dir=" + DIR};
+        Assert.assertFalse(ChromeProcess.isBrowserOf(renderer, DIR));
+    }
+
+    @Test
+    public void otherSessionsDoNotMatch() {
+        Assert.assertFalse(ChromeProcess.isBrowserOf(new String[] {"--user-data-dir=" + DIR + "9"}, DIR));
+        Assert.assertFalse(ChromeProcess.isBrowserOf(new String[] {"--user-data-dir=/tmp/other"}, DIR));
+        Assert.assertFalse(ChromeProcess.isBrowserOf(new String[] {"--remote-debugging-port=0"}, DIR));
+    }
+}
@@ -0,0 +1,129 @@
+package utils;
+
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Flow retry/checkpoint/stats logic – no browser involved, steps are plain lambdas.
+ */
+public class FlowTest {
+
+    @Test
+    public void transientErrorIsRetriedAndCounted() {
+        int[] calls = new int[1];
+        Flow flow = Flow.named("t").maxAttempts(3)
+                .step("flaky", () -> {
+                    if (++calls[0] < 2) throw new StaleElementReferenceException("re-rendered");
+                });
+
+        flow.run();
+
+        Flow.StepStats s = flow.stats().get(0);
+        Assert.assertEquals(calls[0], 2);
+        Assert.assertEquals(s.attempts(), 2);
+        Assert.assertEquals(s.retries(), 1);
+        Assert.assertTrue(s.passed());
+        Assert.assertEquals(s.lastError(), "StaleElementReferenceException");
+        Assert.assertEquals(flow.lastCheckpoint(), "flaky");
+    }
+
+    @Test
+    public void recoveryRunsBeforeEachRetryOnly() {
+        List<String> log = new ArrayList<>();
+        int[] calls = new int[1];
+        Flow.named("t").maxAttempts(3)
+                .step("click", () -> {
+                    log.add("action");
+                    if (++calls[0] < 3) throw new WebDriverException("intercepted");
+                }, () -> log.add("recover"))
+                .run();
+
+        Assert.assertEquals(log, List.of("action", "recover", "action", "recover", "action"));
+    }
+
+    @Test
+    public void nonTransientErrorIsNotRetriedAndStopsTheFlow() {
+        int[] calls = new int[1];
+        boolean[] laterRan = new boolean[1];
+        AssertionError boom = new AssertionError("real failure");
+        Flow flow = Flow.named("t").maxAttempts(3)
+                .step("ok", () -> { })
+                .step("assert", () -> {
+                    calls[0]++;
+                    throw boom;
+                })
+                .step("later", () -> laterRan[0] = true);
+
+        AssertionError thrown = Assert.expectThrows(AssertionError.class, flow::run);
+
+        Assert.assertSame(thrown, boom, "the original error is rethrown as-is");
+        Assert.assertEquals(calls[0], 1);
+        Assert.assertFalse(laterRan[0]);
+        Assert.assertEquals(flow.lastCheckpoint(), "ok");
+        Flow.StepStats s = flow.stats().get(1);
+        Assert.assertFalse(s.passed());
+        Assert.assertEquals(s.attempts(), 1);
+    }
+
+    @Test
+    public void exhaustedBudgetRethrowsTheLastError() {
+        int[] calls = new int[1];
+        Flow flow = Flow.named("t").maxAttempts(2)
+                .step("never", () -> {
+                    calls[0]++;
+                    throw new WebDriverException("attempt " + calls[0]);
+                });
+
+        WebDriverException thrown = Assert.expectThrows(WebDriverException.class, flow::run);
+
+        Assert.assertTrue(thrown.getMessage().startsWith("attempt 2"), thrown.getMessage());
+        Assert.assertEquals(calls[0], 2);
+        Assert.assertEquals(flow.stats().get(0).attempts(), 2);
+        Assert.assertFalse(flow.stats().get(0).passed());
+        Assert.assertNull(flow.lastCheckpoint());
+    }
+
+    @Test
+    public void retryOnOverridesWhatCountsAsTransient() {
+        int[] calls = new int[1];
+        Flow.named("t").maxAttempts(3)
+                .retryOn(e -> e instanceof IllegalStateException)
+                .step("custom", () -> {
+                    if (++calls[0] < 3) throw new IllegalStateException("not yet");
+                })
+                .run();
+
+        Assert.assertEquals(calls[0], 3);
+    }
+
+    @Test
+    public void maxAttemptsIsAtLeastOne() {
+        int[] calls = new int[1];
+        Flow flow = Flow.named("t").maxAttempts(0)
+                .step("once", () -> {
+                    calls[0]++;
+                    throw new WebDriverException("x");
+                });
+
+        Assert.expectThrows(WebDriverException.class, flow::run);
+        Assert.assertEquals(calls[0], 1);
+    }
+
+    @Test
+    public void rerunResetsStatsAndReportListsEveryStep() {
+        Flow flow = Flow.named("add-pick").step("a", () -> { }).step("b", () -> { });
+        flow.run();
+        flow.run();
+
+        Assert.assertEquals(flow.stats().size(), 2);
+        String report = flow.report();
+        Assert.assertTrue(report.startsWith("[Flow] add-pick:"), report);
+        Assert.assertTrue(report.contains("a -> OK, attempts=1"), report);
+        Assert.assertTrue(report.contains("b -> OK, attempts=1"), report);
+    }
+}
@@ -0,0 +1,71 @@
+package utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Mann-Kendall trend statistic used by the soak monitor (leak threshold Z &gt; 2.33), plus percentiles.
+ */
+public class StatsTest {
+
+    private static List<Double> series(double... values) {
+        List<Double> out = new ArrayList<>();
+        for (double v : values) out.add(v);
+        return out;
+    }
+
+    @Test
+    public void strictlyIncreasingMatchesTheClosedForm() {
+        // n=10: S = 45 pairs, Var(S) = 10*9*25/18 = 125, Z = (S-1)/sqrt(Var)
+        double z = Stats.mannKendallZ(series(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+        Assert.assertEquals(z, 44 / Math.sqrt(125), 1e-9);
+    }
+
+    @Test
+    public void decreasingIsTheMirrorImage() {
+        double up = Stats.mannKendallZ(series(1, 2, 3, 4, 5, 6, 7, 8));
+        double down = Stats.mannKendallZ(series(8, 7, 6, 5, 4, 3, 2, 1));
+        Assert.assertEquals(down, -up, 1e-9);
+        Assert.assertTrue(down < 0);
+    }
+
+    @Test
+    public void flatOrTooShortSeriesHaveNoTrend() {
+        Assert.assertEquals(Stats.mannKendallZ(series(5, 5, 5, 5, 5, 5)), 0.0);
+        Assert.assertEquals(Stats.mannKendallZ(series(1, 2)), 0.0);
+        Assert.assertEquals(Stats.mannKendallZ(List.of()), 0.0);
+        Assert.assertEquals(Stats.mannKendallZ(null), 0.0);
+    }
+
+    @Test
+    public void slowLeakUnderNoiseIsFlagged() {
+        // +0.5 MB per sample under +-2 MB of noise, 40 samples: clearly monotonic for MK
+        Random random = new Random(7);
+        List<Double> heap = new ArrayList<>();
+        for (int i = 0; i < 40; i++) heap.add(100 + 0.5 * i + (random.nextDouble() * 4 - 2));
+        Assert.assertTrue(Stats.mannKendallZ(heap) > 2.33, "Z=" + Stats.mannKendallZ(heap));
+    }
+
+    @Test
+    public void noiseAroundAFlatLevelIsNotFlagged() {
+        // shuffled copy of the same values: same level, no order
+        List<Double> heap = new ArrayList<>();
+        for (int i = 0; i < 40; i++) heap.add(100.0 + (i % 5));
+        Collections.shuffle(heap, new Random(3));
+        Assert.assertTrue(Math.abs(Stats.mannKendallZ(heap)) < 2.33, "Z=" + Stats.mannKendallZ(heap));
+    }
+
+    @Test
+    public void nearestRankPercentile() {
+        List<Long> samples = List.of(50L, 10L, 40L, 20L, 30L);
+        Assert.assertEquals(Stats.percentile(samples, 50), 30);
+        Assert.assertEquals(Stats.percentile(samples, 99), 50);
+        Assert.assertEquals(Stats.percentile(samples, 0), 10);
+        Assert.assertEquals(Stats.percentile(List.of(), 50), -1);
+    }
+}
@@ -0,0 +1,74 @@
+package utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Parsing and combining of throttling profiles ("4g", "slow-3g+cpu-4x"...); applying them needs a browser, parsing doesn't.
+ */
+public class ThrottlingProfileTest {
+
+    @Test
+    public void nullOrBlankIsNone() {
+        Assert.assertTrue(ThrottlingProfile.parse(null).isNone());
+        Assert.assertTrue(ThrottlingProfile.parse("  ").isNone());
+        Assert.assertTrue(ThrottlingProfile.parse("none").isNone());
+        Assert.assertEquals(ThrottlingProfile.parse(null).name(), "none");
+    }
+
+    @Test
+    public void presetValues() {
+        ThrottlingProfile p = ThrottlingProfile.parse("4g");
+        Assert.assertEquals(p.latencyMs(), 150.0);
+        Assert.assertEquals(p.downKbps(), 1600.0);
+        Assert.assertEquals(p.upKbps(), 750.0);
+        Assert.assertEquals(p.cpuRate(), 1.0);
+        Assert.assertFalse(p.isNone());
+    }
+
+    @Test
+    public void cpuOnlyProfileLeavesTheNetworkUnthrottled() {
+        ThrottlingProfile p = ThrottlingProfile.parse("cpu-4x");
+        Assert.assertEquals(p.latencyMs(), 0.0);
+        Assert.assertEquals(p.downKbps(), -1.0);
+        Assert.assertEquals(p.upKbps(), -1.0);
+        Assert.assertEquals(p.cpuRate(), 4.0);
+        Assert.assertFalse(p.isNone());
+    }
+
+    @Test
+    public void combinedTakesNetworkFromOneAndCpuFromTheOther() {
+        ThrottlingProfile p = ThrottlingProfile.parse("slow-3g+cpu-4x");
+        Assert.assertEquals(p.name(), "slow-3g+cpu-4x");
+        Assert.assertEquals(p.latencyMs(), 2000.0);
+        Assert.assertEquals(p.downKbps(), 400.0);
+        Assert.assertEquals(p.cpuRate(), 4.0);
+
+        ThrottlingProfile reversed = ThrottlingProfile.parse("cpu-4x+slow-3g");
+        Assert.assertEquals(reversed.latencyMs(), p.latencyMs());
+        Assert.assertEquals(reversed.downKbps(), p.downKbps());
+        Assert.assertEquals(reversed.cpuRate(), p.cpuRate());
+    }
+
+    @Test
+    public void laterNetworkPresetWins() {
+        ThrottlingProfile p = ThrottlingProfile.parse("4g+fast-3g");
+        Assert.assertEquals(p.latencyMs(), 562.5);
+        Assert.assertEquals(p.upKbps(), 675.0);
+    }
+
+    @Test
+    public void caseAndSpacesAreIgnored() {
+        ThrottlingProfile p = ThrottlingProfile.parse(" 4G + CPU-4x ");
+        Assert.assertEquals(p.latencyMs(), 150.0);
+        Assert.assertEquals(p.cpuRate(), 4.0);
+    }
+
+    @Test
+    public void unknownProfileIsRejectedWithTheKnownOnes() {
+        IllegalArgumentException e = Assert.expectThrows(IllegalArgumentException.class,
+                () -> ThrottlingProfile.parse("4g+5g"));
+        Assert.assertTrue(e.getMessage().contains("'5g'"), e.getMessage());
+        Assert.assertTrue(e.getMessage().contains("slow-3g"), e.getMessage());
+    }
+}